@@ -30,7 +30,7 @@ public class Account {
     @Builder.Default
     private List<Transaction> transactions = new ArrayList<>();
 
-    @Column(nullable = false, precision = 19, scale = 2)
+    @Column(nullable = false, precision = 19, scale = 2, updatable = false)
     @Builder.Default
     private BigDecimal balance = BigDecimal.ZERO;
 
@@ -0,0 +1,6 @@
+package org.tc.mtracker.account;
+
+import java.math.BigDecimal;
+
+public record AccountAmount(Long accountId, BigDecimal amount) {
+}
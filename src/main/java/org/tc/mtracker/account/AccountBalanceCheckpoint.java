@@ -0,0 +1,27 @@
+package org.tc.mtracker.account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "account_balance_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceCheckpoint {
+
+    @EmbeddedId
+    private AccountBalanceCheckpointId id;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+}
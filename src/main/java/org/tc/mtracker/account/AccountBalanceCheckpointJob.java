@@ -0,0 +1,25 @@
+package org.tc.mtracker.account;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class AccountBalanceCheckpointJob {
+
+    private final Clock clock;
+    private final AccountBalanceHistoryService accountBalanceHistoryService;
+
+    @Scheduled(cron = "${app.accounts.balance-checkpoint.cron}")
+    public void createPreviousMonthCheckpoints() {
+        LocalDate previousMonthEnd = LocalDate.now(clock).withDayOfMonth(1).minusDays(1);
+        log.debug("Account balance checkpoint job triggered for periodEnd={}", previousMonthEnd);
+        accountBalanceHistoryService.createCheckpoints(previousMonthEnd);
+    }
+}
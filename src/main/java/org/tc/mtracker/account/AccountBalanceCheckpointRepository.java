@@ -0,0 +1,61 @@
+package org.tc.mtracker.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface AccountBalanceCheckpointRepository extends JpaRepository<AccountBalanceCheckpoint, AccountBalanceCheckpointId> {
+
+    @Query(value = """
+                SELECT * FROM account_balance_checkpoints
+                WHERE account_id = :accountId
+                AND period_end <= :date
+                ORDER BY period_end DESC
+                LIMIT 1
+            """, nativeQuery = true)
+    Optional<AccountBalanceCheckpoint> findLatestOnOrBefore(@Param("accountId") Long accountId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query(value = """
+                UPDATE account_balance_checkpoints
+                SET balance = balance + :delta
+                WHERE account_id = :accountId
+                AND period_end >= :date
+            """, nativeQuery = true)
+    int shiftBalancesFrom(
+            @Param("accountId") Long accountId,
+            @Param("date") LocalDate date,
+            @Param("delta") BigDecimal delta
+    );
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO account_balance_checkpoints (account_id, period_end, balance)
+                SELECT a.id,
+                       :periodEnd,
+                       a.balance
+                           + COALESCE((
+                               SELECT SUM(d.delta) FROM account_balance_deltas d
+                               WHERE d.account_id = a.id
+                               AND (d.entry_date IS NULL OR d.entry_date > :periodEnd)
+                           ), 0)
+                           - COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END), 0)
+                FROM accounts a
+                LEFT JOIN transactions t
+                    ON t.account_id = a.id
+                    AND t.deleted_at IS NULL
+                    AND t.date > :periodEnd
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM account_balance_checkpoints c
+                    WHERE c.account_id = a.id
+                    AND c.period_end = :periodEnd
+                )
+                GROUP BY a.id, a.balance
+            """, nativeQuery = true)
+    int createCheckpoints(@Param("periodEnd") LocalDate periodEnd);
+}
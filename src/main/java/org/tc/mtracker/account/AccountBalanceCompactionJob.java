@@ -0,0 +1,30 @@
+package org.tc.mtracker.account;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+class AccountBalanceCompactionJob {
+
+    private final AccountBalanceService accountBalanceService;
+
+    @Scheduled(cron = "${app.accounts.balance-compaction.cron}")
+    public void compact() {
+        List<Long> accountIds;
+        do {
+            accountIds = accountBalanceService.findPendingAccountIds();
+            accountIds.forEach(this::compactAccount);
+        } while (accountIds.size() == accountBalanceService.batchSize());
+    }
+
+    private void compactAccount(Long accountId) {
+        int processed;
+        do {
+            processed = accountBalanceService.compactAccount(accountId);
+        } while (processed == accountBalanceService.batchSize());
+    }
+}
@@ -0,0 +1,73 @@
+package org.tc.mtracker.account;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "account_balance_deltas")
+@Getter
+@NoArgsConstructor
+public class AccountBalanceDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(nullable = false, precision = 19, scale = 2, updatable = false)
+    private BigDecimal delta;
+
+    @Column(name = "user_id", updatable = false)
+    private Long userId;
+
+    @Column(name = "category_id", updatable = false)
+    private Long categoryId;
+
+    @Column(name = "entry_date", updatable = false)
+    private LocalDate entryDate;
+
+    @Column(name = "income_delta", nullable = false, precision = 19, scale = 2, updatable = false)
+    private BigDecimal incomeDelta = BigDecimal.ZERO;
+
+    @Column(name = "expense_delta", nullable = false, precision = 19, scale = 2, updatable = false)
+    private BigDecimal expenseDelta = BigDecimal.ZERO;
+
+    @Column(name = "transaction_count", nullable = false, updatable = false)
+    private int transactionCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public AccountBalanceDelta(Long accountId, BigDecimal delta) {
+        this.accountId = accountId;
+        this.delta = delta;
+    }
+
+    public AccountBalanceDelta(
+            Long accountId,
+            Long userId,
+            Long categoryId,
+            LocalDate entryDate,
+            BigDecimal incomeDelta,
+            BigDecimal expenseDelta,
+            int transactionCount
+    ) {
+        this.accountId = accountId;
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.entryDate = entryDate;
+        this.incomeDelta = incomeDelta;
+        this.expenseDelta = expenseDelta;
+        this.transactionCount = transactionCount;
+        this.delta = incomeDelta.subtract(expenseDelta);
+    }
+}
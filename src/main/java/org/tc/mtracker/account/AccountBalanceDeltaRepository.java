@@ -0,0 +1,101 @@
+package org.tc.mtracker.account;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.tc.mtracker.analytics.dto.MonthlySummaryDTO;
+import org.tc.mtracker.analytics.summary.DailyNetChange;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AccountBalanceDeltaRepository extends JpaRepository<AccountBalanceDelta, Long> {
+
+    @Query("""
+                SELECT DISTINCT d.accountId FROM AccountBalanceDelta d
+                ORDER BY d.accountId
+            """)
+    List<Long> findPendingAccountIds(Pageable pageable);
+
+    @Query("""
+                SELECT new org.tc.mtracker.account.AccountAmount(d.accountId, SUM(d.delta))
+                FROM AccountBalanceDelta d
+                WHERE d.accountId >= :fromId
+                AND d.accountId < :toId
+                GROUP BY d.accountId
+            """)
+    List<AccountAmount> sumPendingByAccountIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(value = """
+                SELECT * FROM account_balance_deltas
+                WHERE account_id = :accountId
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE
+            """, nativeQuery = true)
+    List<AccountBalanceDelta> lockPendingByAccountId(@Param("accountId") Long accountId, @Param("limit") int limit);
+
+    @Query("""
+                SELECT new org.tc.mtracker.analytics.summary.DailyNetChange(d.entryDate, SUM(d.delta))
+                FROM AccountBalanceDelta d
+                WHERE d.accountId = :accountId
+                AND d.entryDate >= :dateFrom
+                AND d.entryDate <= :dateTo
+                GROUP BY d.entryDate
+            """)
+    List<DailyNetChange> sumPendingNetChangeByDay(
+            @Param("accountId") Long accountId,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo
+    );
+
+    @Query("""
+                SELECT COALESCE(SUM(d.delta), 0)
+                FROM AccountBalanceDelta d
+                WHERE d.accountId = :accountId
+                AND d.entryDate <= :date
+            """)
+    BigDecimal sumPendingNetChangeUpTo(@Param("accountId") Long accountId, @Param("date") LocalDate date);
+
+    @Query("""
+                SELECT new org.tc.mtracker.analytics.dto.MonthlySummaryDTO(
+                    MONTH(d.entryDate), SUM(d.incomeDelta), SUM(d.expenseDelta), SUM(d.transactionCount)
+                )
+                FROM AccountBalanceDelta d
+                WHERE d.userId = :userId
+                AND (:accountId IS NULL OR d.accountId = :accountId)
+                AND d.entryDate >= :dateFrom
+                AND d.entryDate <= :dateTo
+                GROUP BY MONTH(d.entryDate)
+            """)
+    List<MonthlySummaryDTO> sumPendingByMonth(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo
+    );
+
+    @Modifying
+    @Query(value = """
+                UPDATE account_balance_deltas
+                SET category_id = :replacementCategoryId
+                WHERE user_id = :userId
+                AND category_id = :sourceCategoryId
+            """, nativeQuery = true)
+    void reassignPendingCategory(
+            @Param("userId") Long userId,
+            @Param("sourceCategoryId") Long sourceCategoryId,
+            @Param("replacementCategoryId") Long replacementCategoryId
+    );
+
+    @Query(value = """
+                SELECT id FROM account_balance_deltas
+                WHERE entry_date >= :dateFrom
+                AND entry_date <= :dateTo
+                FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockPendingByEntryDateBetween(@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo);
+}
@@ -0,0 +1,125 @@
+package org.tc.mtracker.account;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.account.dto.AccountBalanceAtDateDTO;
+import org.tc.mtracker.account.dto.AccountBalanceHistoryDTO;
+import org.tc.mtracker.account.dto.AccountBalancePointDTO;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryRepository;
+import org.tc.mtracker.analytics.summary.DailyNetChange;
+import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserService;
+import org.tc.mtracker.utils.exceptions.AccountNotFoundException;
+import org.tc.mtracker.utils.exceptions.InvalidDateRangeException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountBalanceHistoryService {
+
+    private static final long MAX_HISTORY_DAYS = 366;
+
+    private final AccountBalanceCheckpointRepository accountBalanceCheckpointRepository;
+    private final AccountRepository accountRepository;
+    private final AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+    private final TransactionRepository transactionRepository;
+    private final DailyAccountSummaryRepository dailyAccountSummaryRepository;
+    private final UserService userService;
+
+    @Transactional
+    public void applyLedgerEntries(Long accountId, Collection<AccountBalanceDelta> entries) {
+        Map<LocalDate, BigDecimal> deltas = new TreeMap<>();
+        for (AccountBalanceDelta entry : entries) {
+            if (entry.getEntryDate() != null) {
+                deltas.merge(entry.getEntryDate(), entry.getDelta(), BigDecimal::add);
+            }
+        }
+        deltas.forEach((date, delta) -> {
+            if (delta.signum() != 0) {
+                accountBalanceCheckpointRepository.shiftBalancesFrom(accountId, date, delta);
+            }
+        });
+    }
+
+    @Transactional
+    public int createCheckpoints(LocalDate periodEnd) {
+        int createdCheckpoints = accountBalanceCheckpointRepository.createCheckpoints(periodEnd);
+        log.info("Account balance checkpoints created periodEnd={} accounts={}", periodEnd, createdCheckpoints);
+        return createdCheckpoints;
+    }
+
+    @Transactional(readOnly = true)
+    public AccountBalanceAtDateDTO getBalanceAt(Authentication auth, Long accountId, LocalDate date) {
+        Account account = findOwnedAccount(auth, accountId);
+        return new AccountBalanceAtDateDTO(account.getId(), date, balanceAt(account, date));
+    }
+
+    @Transactional(readOnly = true)
+    public AccountBalanceHistoryDTO getBalanceHistory(Authentication auth, Long accountId, LocalDate dateFrom, LocalDate dateTo) {
+        if (dateFrom.isAfter(dateTo)) {
+            throw new InvalidDateRangeException("dateFrom must be on or before dateTo.");
+        }
+        if (ChronoUnit.DAYS.between(dateFrom, dateTo) >= MAX_HISTORY_DAYS) {
+            throw new InvalidDateRangeException("Balance history range cannot exceed %d days.".formatted(MAX_HISTORY_DAYS));
+        }
+
+        Account account = findOwnedAccount(auth, accountId);
+        Map<LocalDate, BigDecimal> changesByDate = Stream.concat(
+                        dailyAccountSummaryRepository.sumNetChangeByDay(account.getId(), dateFrom, dateTo).stream(),
+                        accountBalanceDeltaRepository.sumPendingNetChangeByDay(account.getId(), dateFrom, dateTo).stream()
+                )
+                .collect(Collectors.toMap(DailyNetChange::date, DailyNetChange::netChange, BigDecimal::add));
+
+        BigDecimal balance = balanceAt(account, dateFrom.minusDays(1));
+        List<AccountBalancePointDTO> points = new ArrayList<>();
+        for (LocalDate date = dateFrom; !date.isAfter(dateTo); date = date.plusDays(1)) {
+            balance = balance.add(changesByDate.getOrDefault(date, BigDecimal.ZERO));
+            points.add(new AccountBalancePointDTO(date, balance));
+        }
+        return new AccountBalanceHistoryDTO(account.getId(), points);
+    }
+
+    private BigDecimal balanceAt(Account account, LocalDate date) {
+        return accountBalanceCheckpointRepository.findLatestOnOrBefore(account.getId(), date)
+                .map(checkpoint -> checkpoint.getBalance()
+                        .add(accountBalanceDeltaRepository.sumPendingNetChangeUpTo(account.getId(), checkpoint.getId().getPeriodEnd()))
+                        .add(transactionRepository.sumNetAmountByAccountAfter(
+                                account.getId(),
+                                checkpoint.getId().getPeriodEnd(),
+                                date
+                        )))
+                .orElseGet(() -> currentBalance(account).subtract(transactionRepository.sumNetAmountByAccountAfter(
+                        account.getId(),
+                        date,
+                        null
+                )));
+    }
+
+    private Account findOwnedAccount(Authentication auth, Long accountId) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        return accountRepository.findByIdAndUser(accountId, user)
+                .orElseThrow(() -> {
+                    log.warn("Account not found userId={} accountId={}", user.getId(), accountId);
+                    return new AccountNotFoundException("Account with id %d not found".formatted(accountId));
+                });
+    }
+
+    private BigDecimal currentBalance(Account account) {
+        return accountRepository.findCurrentBalance(account.getId()).orElse(BigDecimal.ZERO);
+    }
+}
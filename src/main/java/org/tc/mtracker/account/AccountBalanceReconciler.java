@@ -0,0 +1,176 @@
+package org.tc.mtracker.account;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountBalanceReconciler {
+
+    private final AccountBalanceReconciliationService reconciliationService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.accounts.balance-reconciliation.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.accounts.balance-reconciliation.workers}")
+    private int workers;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong cursor = new AtomicLong();
+    private volatile long firstId;
+    private volatile long lastId = -1;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startExecutor() {
+        executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers),
+                new CustomizableThreadFactory("balance-reconciliation-")
+        );
+        Gauge.builder("account.balance.reconciliation.progress", this, AccountBalanceReconciler::progress)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdown();
+    }
+
+    public Optional<BalanceReconciliationReport> reconcile(boolean autoCorrect) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Account balance reconciliation is already running, skipping");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(reconcileAll(autoCorrect));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private BalanceReconciliationReport reconcileAll(boolean autoCorrect) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<Long> minId = reconciliationService.findMinAccountId();
+        Optional<Long> maxId = reconciliationService.findMaxAccountId();
+        if (minId.isEmpty() || maxId.isEmpty()) {
+            return new BalanceReconciliationReport(0, 0, 0, 0, Duration.ofNanos(sample.stop(durationTimer())));
+        }
+
+        firstId = minId.get();
+        lastId = maxId.get();
+        cursor.set(firstId);
+        RunTotals totals = new RunTotals();
+        log.info("Account balance reconciliation started fromId={} toId={} workers={} chunkSize={} autoCorrect={}",
+                firstId, lastId, workers, chunkSize, autoCorrect);
+
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> drainRanges(totals, autoCorrect)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("Account balance reconciliation interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Account balance reconciliation worker failed", e.getCause());
+            }
+        }
+
+        Duration duration = Duration.ofNanos(sample.stop(durationTimer()));
+        BalanceReconciliationReport report = new BalanceReconciliationReport(
+                totals.accounts.get(), totals.mismatches.get(), totals.corrected.get(), totals.failedChunks.get(), duration);
+        log.info("Account balance reconciliation finished accounts={} mismatches={} corrected={} failedChunks={} durationMs={}",
+                report.accounts(), report.mismatches(), report.corrected(), report.failedChunks(), duration.toMillis());
+        return report;
+    }
+
+    private void drainRanges(RunTotals totals, boolean autoCorrect) {
+        Timer chunkTimer = meterRegistry.timer("account.balance.reconciliation.chunk");
+        while (!Thread.currentThread().isInterrupted()) {
+            long fromId = cursor.getAndAdd(chunkSize);
+            if (fromId > lastId) {
+                return;
+            }
+            reconcileChunk(fromId, fromId + chunkSize, chunkTimer, totals, autoCorrect);
+        }
+    }
+
+    private void reconcileChunk(long fromId, long toId, Timer chunkTimer, RunTotals totals, boolean autoCorrect) {
+        try {
+            ReconciledRange range = chunkTimer.recordCallable(() -> reconciliationService.reconcileRange(fromId, toId));
+            totals.accounts.addAndGet(range.accounts());
+            meterRegistry.counter("account.balance.reconciliation.accounts").increment(range.accounts());
+            range.mismatches().forEach(mismatch -> handleMismatch(mismatch, totals, autoCorrect));
+            meterRegistry.counter("account.balance.reconciliation.chunks", "result", "success").increment();
+        } catch (Exception e) {
+            totals.failedChunks.incrementAndGet();
+            meterRegistry.counter("account.balance.reconciliation.chunks", "result", "failure").increment();
+            log.error("Account balance reconciliation chunk failed fromId={} toId={}", fromId, toId, e);
+        }
+    }
+
+    private void handleMismatch(BalanceMismatch mismatch, RunTotals totals, boolean autoCorrect) {
+        totals.mismatches.incrementAndGet();
+        if (!autoCorrect) {
+            meterRegistry.counter("account.balance.reconciliation.mismatches", "result", "reported").increment();
+            log.warn("Account balance mismatch accountId={} recorded={} expected={} drift={}",
+                    mismatch.accountId(), mismatch.recordedBalance(), mismatch.expectedBalance(), mismatch.drift());
+            return;
+        }
+        if (reconciliationService.correct(mismatch.accountId()).isPresent()) {
+            totals.corrected.incrementAndGet();
+            meterRegistry.counter("account.balance.reconciliation.mismatches", "result", "corrected").increment();
+        } else {
+            meterRegistry.counter("account.balance.reconciliation.mismatches", "result", "resolved").increment();
+        }
+    }
+
+    private Timer durationTimer() {
+        return meterRegistry.timer("account.balance.reconciliation.duration");
+    }
+
+    private double progress() {
+        long span = lastId - firstId + 1;
+        if (span <= 0) {
+            return 0;
+        }
+        return Math.min(1.0, (double) (cursor.get() - firstId) / span);
+    }
+
+    private static final class RunTotals {
+        private final AtomicLong accounts = new AtomicLong();
+        private final AtomicLong mismatches = new AtomicLong();
+        private final AtomicLong corrected = new AtomicLong();
+        private final AtomicLong failedChunks = new AtomicLong();
+    }
+}
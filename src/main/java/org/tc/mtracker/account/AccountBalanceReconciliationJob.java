@@ -0,0 +1,21 @@
+package org.tc.mtracker.account;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class AccountBalanceReconciliationJob {
+
+    private final AccountBalanceReconciler accountBalanceReconciler;
+
+    @Value("${app.accounts.balance-reconciliation.auto-correct}")
+    private boolean autoCorrect;
+
+    @Scheduled(cron = "${app.accounts.balance-reconciliation.cron}")
+    public void reconcile() {
+        accountBalanceReconciler.reconcile(autoCorrect);
+    }
+}
@@ -0,0 +1,81 @@
+package org.tc.mtracker.account;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.user.UserDataVersionService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountBalanceReconciliationService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserDataVersionService userDataVersionService;
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findMinAccountId() {
+        return accountRepository.findMinId();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findMaxAccountId() {
+        return accountRepository.findMaxId();
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ReconciledRange reconcileRange(long fromId, long toId) {
+        return compareRange(fromId, toId);
+    }
+
+    @Transactional
+    public Optional<BalanceMismatch> correct(Long accountId) {
+        Optional<Long> ownerId = accountRepository.lockOwnerIdById(accountId);
+        if (ownerId.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<BalanceMismatch> mismatch = compareRange(accountId, accountId + 1).mismatches().stream().findFirst();
+        mismatch.ifPresent(found -> {
+            accountBalanceDeltaRepository.save(new AccountBalanceDelta(accountId, found.drift().negate()));
+            userDataVersionService.bump(ownerId.get());
+            log.warn("Account balance corrected accountId={} recorded={} expected={}",
+                    accountId, found.recordedBalance(), found.expectedBalance());
+        });
+        return mismatch;
+    }
+
+    private ReconciledRange compareRange(long fromId, long toId) {
+        List<AccountAmount> balances = accountRepository.findBalancesByIdRange(fromId, toId);
+        if (balances.isEmpty()) {
+            return new ReconciledRange(0, List.of());
+        }
+        Map<Long, BigDecimal> pending = toMap(accountBalanceDeltaRepository.sumPendingByAccountIdRange(fromId, toId));
+        Map<Long, BigDecimal> expected = toMap(transactionRepository.sumNetAmountByAccountIdRange(fromId, toId));
+
+        List<BalanceMismatch> mismatches = new ArrayList<>();
+        for (AccountAmount balance : balances) {
+            BigDecimal recordedBalance = balance.amount().add(pending.getOrDefault(balance.accountId(), BigDecimal.ZERO));
+            BigDecimal expectedBalance = expected.getOrDefault(balance.accountId(), BigDecimal.ZERO);
+            if (recordedBalance.compareTo(expectedBalance) != 0) {
+                mismatches.add(new BalanceMismatch(balance.accountId(), recordedBalance, expectedBalance));
+            }
+        }
+        return new ReconciledRange(balances.size(), mismatches);
+    }
+
+    private static Map<Long, BigDecimal> toMap(List<AccountAmount> amounts) {
+        return amounts.stream().collect(Collectors.toMap(AccountAmount::accountId, AccountAmount::amount));
+    }
+}
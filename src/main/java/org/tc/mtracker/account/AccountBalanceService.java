@@ -0,0 +1,161 @@
+package org.tc.mtracker.account;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryService;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.transaction.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+    private final AccountBalanceHistoryService accountBalanceHistoryService;
+    private final DailyAccountSummaryService dailyAccountSummaryService;
+
+    @Value("${app.accounts.balance-compaction.batch-size}")
+    private int batchSize;
+
+    @Transactional
+    public void recordTransaction(Transaction transaction) {
+        recordTransactions(List.of(transaction));
+    }
+
+    @Transactional
+    public void recordTransactions(Collection<Transaction> transactions) {
+        Map<LedgerKey, LedgerDelta> entries = new LinkedHashMap<>();
+        aggregate(entries, transactions, transaction -> transaction.getCategory().getId(), 1);
+        saveEntries(entries);
+    }
+
+    @Transactional
+    public void revertTransaction(Transaction transaction) {
+        revertTransactions(List.of(transaction));
+    }
+
+    @Transactional
+    public void revertTransactions(Collection<Transaction> transactions) {
+        Map<LedgerKey, LedgerDelta> entries = new LinkedHashMap<>();
+        aggregate(entries, transactions, transaction -> transaction.getCategory().getId(), -1);
+        saveEntries(entries);
+    }
+
+    @Transactional
+    public void reassignTransactions(Collection<Transaction> transactions, Category targetCategory) {
+        Map<LedgerKey, LedgerDelta> entries = new LinkedHashMap<>();
+        aggregate(entries, transactions, transaction -> transaction.getCategory().getId(), -1);
+        aggregate(entries, transactions, transaction -> targetCategory.getId(), 1);
+        saveEntries(entries);
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal currentBalance(Account account) {
+        return accountRepository.findCurrentBalance(account.getId()).orElse(BigDecimal.ZERO);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingAccountIds() {
+        return accountBalanceDeltaRepository.findPendingAccountIds(PageRequest.of(0, batchSize));
+    }
+
+    @Transactional
+    public int compactAccount(Long accountId) {
+        if (accountRepository.lockById(accountId).isEmpty()) {
+            return 0;
+        }
+        List<AccountBalanceDelta> pending = accountBalanceDeltaRepository.lockPendingByAccountId(accountId, batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        BigDecimal total = pending.stream().map(AccountBalanceDelta::getDelta).reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.signum() != 0) {
+            accountRepository.addToBalance(accountId, total);
+        }
+        dailyAccountSummaryService.applyLedgerEntries(pending);
+        accountBalanceHistoryService.applyLedgerEntries(accountId, pending);
+        accountBalanceDeltaRepository.deleteAllInBatch(pending);
+        log.debug("Account balance compacted accountId={} deltas={} total={}", accountId, pending.size(), total);
+        return pending.size();
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    private void saveEntries(Map<LedgerKey, LedgerDelta> entries) {
+        List<AccountBalanceDelta> deltas = entries.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .sorted(Comparator.comparing(entry -> entry.getKey().accountId()))
+                .map(entry -> new AccountBalanceDelta(
+                        entry.getKey().accountId(),
+                        entry.getKey().userId(),
+                        entry.getKey().categoryId(),
+                        entry.getKey().date(),
+                        entry.getValue().income(),
+                        entry.getValue().expense(),
+                        entry.getValue().count()
+                ))
+                .toList();
+        if (!deltas.isEmpty()) {
+            accountBalanceDeltaRepository.saveAll(deltas);
+        }
+    }
+
+    private static void aggregate(
+            Map<LedgerKey, LedgerDelta> entries,
+            Collection<Transaction> transactions,
+            Function<Transaction, Long> categoryId,
+            int sign
+    ) {
+        for (Transaction transaction : transactions) {
+            LedgerKey key = new LedgerKey(
+                    transaction.getAccount().getId(),
+                    transaction.getUser().getId(),
+                    categoryId.apply(transaction),
+                    transaction.getDate()
+            );
+            entries.merge(key, LedgerDelta.of(transaction, sign), LedgerDelta::plus);
+        }
+    }
+
+    private record LedgerKey(Long accountId, Long userId, Long categoryId, LocalDate date) {
+    }
+
+    private record LedgerDelta(BigDecimal income, BigDecimal expense, int count) {
+
+        static LedgerDelta of(Transaction transaction, int sign) {
+            BigDecimal amount = transaction.getAmount().multiply(BigDecimal.valueOf(sign));
+            return new LedgerDelta(
+                    transaction.getType() == TransactionType.INCOME ? amount : BigDecimal.ZERO,
+                    transaction.getType() == TransactionType.EXPENSE ? amount : BigDecimal.ZERO,
+                    sign
+            );
+        }
+
+        LedgerDelta plus(LedgerDelta other) {
+            return new LedgerDelta(income.add(other.income), expense.add(other.expense), count + other.count);
+        }
+
+        boolean isEmpty() {
+            return income.signum() == 0 && expense.signum() == 0 && count == 0;
+        }
+    }
+}
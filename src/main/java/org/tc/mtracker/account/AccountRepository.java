@@ -1,12 +1,51 @@
 package org.tc.mtracker.account;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.tc.mtracker.user.User;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByIdAndUser(Long id, User user);
+
+    @Query("SELECT MIN(a.id) FROM Account a")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(a.id) FROM Account a")
+    Optional<Long> findMaxId();
+
+    @Query("""
+                SELECT new org.tc.mtracker.account.AccountAmount(a.id, a.balance)
+                FROM Account a
+                WHERE a.id >= :fromId
+                AND a.id < :toId
+                ORDER BY a.id
+            """)
+    List<AccountAmount> findBalancesByIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(value = "SELECT id FROM accounts WHERE id = :accountId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("accountId") Long accountId);
+
+    @Query(value = "SELECT user_id FROM accounts WHERE id = :accountId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockOwnerIdById(@Param("accountId") Long accountId);
+
+    @Query(value = """
+                SELECT a.balance + COALESCE((SELECT SUM(d.delta) FROM account_balance_deltas d WHERE d.account_id = a.id), 0)
+                FROM accounts a
+                WHERE a.id = :accountId
+            """, nativeQuery = true)
+    Optional<BigDecimal> findCurrentBalance(@Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE accounts SET balance = balance + :delta WHERE id = :accountId", nativeQuery = true)
+    int addToBalance(@Param("accountId") Long accountId, @Param("delta") BigDecimal delta);
 }
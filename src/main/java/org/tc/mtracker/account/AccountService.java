@@ -7,17 +7,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.tc.mtracker.account.dto.AccountResponseDTO;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserService;
 import org.tc.mtracker.utils.exceptions.AccountNotFoundException;
 
-import java.math.BigDecimal;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AccountService {
 
     private final UserService userService;
+    private final UserDataVersionService userDataVersionService;
+    private final AccountBalanceService accountBalanceService;
+
+    public String currentETag(Authentication auth) {
+        return userDataVersionService.currentETag(auth);
+    }
 
     @Transactional(readOnly = true)
     public AccountResponseDTO getDefaultAccount(Authentication auth) {
@@ -30,9 +35,6 @@ public class AccountService {
         }
 
         log.debug("Default account returned for userId={} accountId={}", currentUser.getId(), account.getId());
-        return new AccountResponseDTO(
-                account.getId(),
-                account.getBalance() == null ? BigDecimal.ZERO : account.getBalance()
-        );
+        return new AccountResponseDTO(account.getId(), accountBalanceService.currentBalance(account));
     }
 }
@@ -0,0 +1,10 @@
+package org.tc.mtracker.account;
+
+import java.math.BigDecimal;
+
+public record BalanceMismatch(Long accountId, BigDecimal recordedBalance, BigDecimal expectedBalance) {
+
+    public BigDecimal drift() {
+        return recordedBalance.subtract(expectedBalance);
+    }
+}
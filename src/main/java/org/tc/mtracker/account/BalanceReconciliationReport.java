@@ -0,0 +1,6 @@
+package org.tc.mtracker.account;
+
+import java.time.Duration;
+
+public record BalanceReconciliationReport(long accounts, long mismatches, long corrected, long failedChunks, Duration duration) {
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserRepository;
 
 import java.math.BigDecimal;
@@ -16,6 +17,7 @@ public class DefaultAccountProvisioningService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final UserDataVersionService userDataVersionService;
 
     @Transactional
     public User provisionDefaultAccount(User user) {
@@ -29,6 +31,7 @@ public class DefaultAccountProvisioningService {
         user.setDefaultAccount(savedDefaultAccount);
 
         User savedUser = userRepository.save(user);
+        userDataVersionService.bump(savedUser);
         log.info("Default account provisioned for userId={} accountId={}", savedUser.getId(), savedDefaultAccount.getId());
         return savedUser;
     }
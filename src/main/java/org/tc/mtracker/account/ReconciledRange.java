@@ -0,0 +1,6 @@
+package org.tc.mtracker.account;
+
+import java.util.List;
+
+public record ReconciledRange(int accounts, List<BalanceMismatch> mismatches) {
+}
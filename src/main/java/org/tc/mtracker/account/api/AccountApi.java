@@ -6,14 +6,22 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.tc.mtracker.account.dto.AccountBalanceAtDateDTO;
+import org.tc.mtracker.account.dto.AccountBalanceHistoryDTO;
 import org.tc.mtracker.account.dto.AccountResponseDTO;
 
+import java.time.LocalDate;
+
 @RequestMapping("/api/v1/accounts")
 @Tag(name = "Account Management", description = "Account management endpoints")
 public interface AccountApi {
@@ -28,6 +36,10 @@ public interface AccountApi {
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = AccountResponseDTO.class))
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+    )
     @ApiResponse(
             responseCode = "404",
             description = "Default account not found",
@@ -35,5 +47,61 @@ public interface AccountApi {
                     schema = @Schema(implementation = ProblemDetail.class))
     )
     @GetMapping("/default")
-    ResponseEntity<AccountResponseDTO> getDefaultAccount(@Parameter(hidden = true) Authentication auth);
+    ResponseEntity<AccountResponseDTO> getDefaultAccount(
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(
+            summary = "Get account balance at date",
+            description = "Returns the balance of an account owned by the authenticated user at the end of the given date."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Balance returned",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = AccountBalanceAtDateDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Account not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping("/{accountId}/balance")
+    ResponseEntity<AccountBalanceAtDateDTO> getBalanceAt(
+            @PathVariable Long accountId,
+            @RequestParam(name = "date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Get account balance history",
+            description = "Returns the end-of-day balance for every day of an inclusive range of at most 366 days."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Balance history returned",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = AccountBalanceHistoryDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid date range",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Account not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping("/{accountId}/balance-history")
+    ResponseEntity<AccountBalanceHistoryDTO> getBalanceHistory(
+            @PathVariable Long accountId,
+            @RequestParam(name = "dateFrom") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(name = "dateTo") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @Parameter(hidden = true) Authentication auth
+    );
 }
@@ -4,17 +4,42 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.tc.mtracker.account.AccountBalanceHistoryService;
 import org.tc.mtracker.account.AccountService;
+import org.tc.mtracker.account.dto.AccountBalanceAtDateDTO;
+import org.tc.mtracker.account.dto.AccountBalanceHistoryDTO;
 import org.tc.mtracker.account.dto.AccountResponseDTO;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 public class AccountController implements AccountApi {
 
     private final AccountService accountService;
+    private final AccountBalanceHistoryService accountBalanceHistoryService;
 
     @Override
-    public ResponseEntity<AccountResponseDTO> getDefaultAccount(Authentication auth) {
+    public ResponseEntity<AccountResponseDTO> getDefaultAccount(Authentication auth, WebRequest webRequest) {
+        if (webRequest.checkNotModified(accountService.currentETag(auth))) {
+            return null;
+        }
         return ResponseEntity.ok(accountService.getDefaultAccount(auth));
     }
+
+    @Override
+    public ResponseEntity<AccountBalanceAtDateDTO> getBalanceAt(Long accountId, LocalDate date, Authentication auth) {
+        return ResponseEntity.ok(accountBalanceHistoryService.getBalanceAt(auth, accountId, date));
+    }
+
+    @Override
+    public ResponseEntity<AccountBalanceHistoryDTO> getBalanceHistory(
+            Long accountId,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(accountBalanceHistoryService.getBalanceHistory(auth, accountId, dateFrom, dateTo));
+    }
 }
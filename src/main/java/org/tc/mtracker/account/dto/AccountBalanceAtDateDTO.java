@@ -0,0 +1,19 @@
+package org.tc.mtracker.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Schema(description = "Account balance at the end of a date")
+public record AccountBalanceAtDateDTO(
+        @Schema(description = "Account ID", example = "1")
+        Long accountId,
+
+        @Schema(description = "Date", example = "2026-03-31")
+        LocalDate date,
+
+        @Schema(description = "Balance after all transactions up to and including the date", example = "1520.40")
+        BigDecimal balance
+) {
+}
@@ -0,0 +1,15 @@
+package org.tc.mtracker.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Daily end-of-day balances of an account")
+public record AccountBalanceHistoryDTO(
+        @Schema(description = "Account ID", example = "1")
+        Long accountId,
+
+        @Schema(description = "One balance per day of the requested range")
+        List<AccountBalancePointDTO> points
+) {
+}
@@ -0,0 +1,16 @@
+package org.tc.mtracker.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Schema(description = "End-of-day balance")
+public record AccountBalancePointDTO(
+        @Schema(description = "Date", example = "2026-03-31")
+        LocalDate date,
+
+        @Schema(description = "Balance", example = "1520.40")
+        BigDecimal balance
+) {
+}
@@ -0,0 +1,92 @@
+package org.tc.mtracker.analytics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.analytics.dto.CategoryBreakdownItemDTO;
+import org.tc.mtracker.analytics.dto.CategoryBreakdownResponseDTO;
+import org.tc.mtracker.analytics.dto.MonthlySummaryDTO;
+import org.tc.mtracker.analytics.dto.MonthlySummaryResponseDTO;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryService;
+import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.transaction.TransactionValidationService;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserService;
+import org.tc.mtracker.utils.exceptions.InvalidDateRangeException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsService {
+
+    private final TransactionRepository transactionRepository;
+    private final DailyAccountSummaryService dailyAccountSummaryService;
+    private final UserService userService;
+    private final TransactionValidationService transactionValidationService;
+
+    @Transactional(readOnly = true)
+    public CategoryBreakdownResponseDTO getCategoryBreakdown(
+            Authentication auth,
+            Long accountId,
+            LocalDate dateFrom,
+            LocalDate dateTo
+    ) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        validateDateRange(dateFrom, dateTo);
+        if (accountId != null) {
+            transactionValidationService.resolveAccount(user, accountId);
+        }
+
+        List<CategoryBreakdownItemDTO> items = transactionRepository.sumByCategoryAndType(user, accountId, dateFrom, dateTo);
+        log.debug("Category breakdown returned for userId={} accountId={} dateFrom={} dateTo={} groups={}",
+                user.getId(), accountId, dateFrom, dateTo, items.size());
+
+        return new CategoryBreakdownResponseDTO(
+                dateFrom,
+                dateTo,
+                accountId,
+                sumByType(items, TransactionType.INCOME),
+                sumByType(items, TransactionType.EXPENSE),
+                items
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public MonthlySummaryResponseDTO getMonthlySummary(Authentication auth, Long accountId, int year) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        if (accountId != null) {
+            transactionValidationService.resolveAccount(user, accountId);
+        }
+
+        List<MonthlySummaryDTO> months = dailyAccountSummaryService.sumByMonth(
+                user.getId(),
+                accountId,
+                LocalDate.of(year, 1, 1),
+                LocalDate.of(year, 12, 31)
+        );
+        log.debug("Monthly summary returned for userId={} accountId={} year={} months={}",
+                user.getId(), accountId, year, months.size());
+
+        return new MonthlySummaryResponseDTO(year, accountId, months);
+    }
+
+    private static void validateDateRange(LocalDate dateFrom, LocalDate dateTo) {
+        if (dateFrom.isAfter(dateTo)) {
+            throw new InvalidDateRangeException("dateFrom must be on or before dateTo.");
+        }
+    }
+
+    private static BigDecimal sumByType(List<CategoryBreakdownItemDTO> items, TransactionType type) {
+        return items.stream()
+                .filter(item -> item.type() == type)
+                .map(CategoryBreakdownItemDTO::total)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -0,0 +1,80 @@
+package org.tc.mtracker.analytics.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.tc.mtracker.analytics.dto.CategoryBreakdownResponseDTO;
+import org.tc.mtracker.analytics.dto.MonthlySummaryResponseDTO;
+
+import java.time.LocalDate;
+
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Analytics", description = "Aggregated transaction statistics")
+public interface AnalyticsApi {
+
+    @Operation(
+            summary = "Get category breakdown",
+            description = "Returns the authenticated user's transaction totals grouped by category and type for an inclusive date range, optionally limited to one account. Deleted transactions are excluded."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Category breakdown returned",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = CategoryBreakdownResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid date range",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Account not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping("/category-breakdown")
+    ResponseEntity<CategoryBreakdownResponseDTO> getCategoryBreakdown(
+            @RequestParam(name = "accountId", required = false) Long accountId,
+            @RequestParam(name = "dateFrom") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(name = "dateTo") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Get monthly summary",
+            description = "Returns the authenticated user's income, expense and transaction count per month of the given year, optionally limited to one account. Totals are read from pre-aggregated daily summaries."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Monthly summary returned",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = MonthlySummaryResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Account not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping("/monthly-summary")
+    ResponseEntity<MonthlySummaryResponseDTO> getMonthlySummary(
+            @RequestParam(name = "accountId", required = false) Long accountId,
+            @RequestParam(name = "year") @Min(2000) @Max(9999) int year,
+            @Parameter(hidden = true) Authentication auth
+    );
+}
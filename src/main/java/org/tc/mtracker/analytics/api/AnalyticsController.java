@@ -0,0 +1,33 @@
+package org.tc.mtracker.analytics.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.RestController;
+import org.tc.mtracker.analytics.AnalyticsService;
+import org.tc.mtracker.analytics.dto.CategoryBreakdownResponseDTO;
+import org.tc.mtracker.analytics.dto.MonthlySummaryResponseDTO;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+public class AnalyticsController implements AnalyticsApi {
+
+    private final AnalyticsService analyticsService;
+
+    @Override
+    public ResponseEntity<CategoryBreakdownResponseDTO> getCategoryBreakdown(
+            Long accountId,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(analyticsService.getCategoryBreakdown(auth, accountId, dateFrom, dateTo));
+    }
+
+    @Override
+    public ResponseEntity<MonthlySummaryResponseDTO> getMonthlySummary(Long accountId, int year, Authentication auth) {
+        return ResponseEntity.ok(analyticsService.getMonthlySummary(auth, accountId, year));
+    }
+}
@@ -0,0 +1,28 @@
+package org.tc.mtracker.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Transactions total for one category and type")
+public record CategoryBreakdownItemDTO(
+        @Schema(description = "Category ID", example = "1")
+        Long categoryId,
+
+        @Schema(description = "Category name", example = "Groceries")
+        String categoryName,
+
+        @Schema(description = "Category icon", example = "cart")
+        String categoryIcon,
+
+        @Schema(description = "Transaction type", example = "EXPENSE")
+        TransactionType type,
+
+        @Schema(description = "Sum of transaction amounts", example = "412.75")
+        BigDecimal total,
+
+        @Schema(description = "Number of transactions", example = "14")
+        Long transactionCount
+) {
+}
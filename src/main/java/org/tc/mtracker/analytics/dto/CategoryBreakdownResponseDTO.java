@@ -0,0 +1,29 @@
+package org.tc.mtracker.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Transactions grouped by category and type for a date range")
+public record CategoryBreakdownResponseDTO(
+        @Schema(description = "First included date", example = "2026-04-01")
+        LocalDate dateFrom,
+
+        @Schema(description = "Last included date", example = "2026-04-30")
+        LocalDate dateTo,
+
+        @Schema(description = "Account ID, or null for all accounts", example = "1")
+        Long accountId,
+
+        @Schema(description = "Total income in the range", example = "3200.00")
+        BigDecimal totalIncome,
+
+        @Schema(description = "Total expenses in the range", example = "1875.40")
+        BigDecimal totalExpense,
+
+        @Schema(description = "Per-category totals, grouped by type and ordered by total descending")
+        List<CategoryBreakdownItemDTO> items
+) {
+}
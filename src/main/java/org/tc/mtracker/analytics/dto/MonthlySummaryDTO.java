@@ -0,0 +1,21 @@
+package org.tc.mtracker.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Income and expense totals for one calendar month")
+public record MonthlySummaryDTO(
+        @Schema(description = "Month number, 1 to 12", example = "4")
+        Integer month,
+
+        @Schema(description = "Total income", example = "3200.00")
+        BigDecimal totalIncome,
+
+        @Schema(description = "Total expenses", example = "1875.40")
+        BigDecimal totalExpense,
+
+        @Schema(description = "Number of transactions", example = "42")
+        Long transactionCount
+) {
+}
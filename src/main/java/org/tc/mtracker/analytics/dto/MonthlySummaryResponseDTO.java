@@ -0,0 +1,18 @@
+package org.tc.mtracker.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Monthly income and expense totals for one year")
+public record MonthlySummaryResponseDTO(
+        @Schema(description = "Year", example = "2026")
+        Integer year,
+
+        @Schema(description = "Account ID, or null for all accounts", example = "1")
+        Long accountId,
+
+        @Schema(description = "Months that have transactions, in calendar order")
+        List<MonthlySummaryDTO> months
+) {
+}
@@ -0,0 +1,36 @@
+package org.tc.mtracker.analytics.summary;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "daily_account_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAccountSummary {
+
+    @EmbeddedId
+    private DailyAccountSummaryId id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "income_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal incomeTotal;
+
+    @Column(name = "expense_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal expenseTotal;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+}
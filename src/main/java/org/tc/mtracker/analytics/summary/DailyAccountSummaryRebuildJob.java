@@ -0,0 +1,48 @@
+package org.tc.mtracker.analytics.summary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyAccountSummaryRebuildJob {
+
+    private final Clock clock;
+    private final DailyAccountSummaryService dailyAccountSummaryService;
+    private final DailyAccountSummaryRepository dailyAccountSummaryRepository;
+
+    @Value("${app.analytics.daily-summary-rebuild.lookback-days}")
+    private int lookbackDays;
+
+    @Scheduled(cron = "${app.analytics.daily-summary-rebuild.cron}")
+    public void rebuildRecentSummaries() {
+        LocalDate today = LocalDate.now(clock);
+        rebuild(today.minusDays(lookbackDays), today);
+    }
+
+    public void rebuildAll() {
+        LocalDate earliestDate = dailyAccountSummaryRepository.findEarliestTransactionDate();
+        if (earliestDate == null) {
+            return;
+        }
+        rebuild(earliestDate, LocalDate.now(clock));
+    }
+
+    public void rebuild(LocalDate dateFrom, LocalDate dateTo) {
+        int rebuiltRows = 0;
+        LocalDate monthStart = dateFrom;
+        while (!monthStart.isAfter(dateTo)) {
+            LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+            rebuiltRows += dailyAccountSummaryService.rebuild(monthStart, monthEnd.isBefore(dateTo) ? monthEnd : dateTo);
+            monthStart = monthEnd.plusDays(1);
+        }
+        log.info("Daily account summaries rebuilt dateFrom={} dateTo={} rows={}", dateFrom, dateTo, rebuiltRows);
+    }
+}
@@ -0,0 +1,167 @@
+package org.tc.mtracker.analytics.summary;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.tc.mtracker.analytics.dto.MonthlySummaryDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyAccountSummaryRepository extends JpaRepository<DailyAccountSummary, DailyAccountSummaryId> {
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO daily_account_summaries
+                    (account_id, category_id, summary_date, user_id, income_total, expense_total, transaction_count)
+                VALUES (:accountId, :categoryId, :summaryDate, :userId, :incomeDelta, :expenseDelta, :countDelta) AS delta
+                ON DUPLICATE KEY UPDATE
+                    income_total = daily_account_summaries.income_total + delta.income_total,
+                    expense_total = daily_account_summaries.expense_total + delta.expense_total,
+                    transaction_count = daily_account_summaries.transaction_count + delta.transaction_count
+            """, nativeQuery = true)
+    void applyDelta(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("summaryDate") LocalDate summaryDate,
+            @Param("incomeDelta") BigDecimal incomeDelta,
+            @Param("expenseDelta") BigDecimal expenseDelta,
+            @Param("countDelta") int countDelta
+    );
+
+    @Modifying
+    @Query(value = """
+                DELETE FROM daily_account_summaries
+                WHERE account_id = :accountId
+                AND summary_date = :summaryDate
+                AND category_id = :categoryId
+                AND transaction_count <= 0
+            """, nativeQuery = true)
+    void deleteIfEmpty(
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("summaryDate") LocalDate summaryDate
+    );
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO daily_account_summaries
+                    (account_id, category_id, summary_date, user_id, income_total, expense_total, transaction_count)
+                SELECT moved.account_id, :replacementCategoryId, moved.summary_date, moved.user_id,
+                       moved.income_total, moved.expense_total, moved.transaction_count
+                FROM (
+                    SELECT s.account_id, s.summary_date, s.user_id, s.income_total, s.expense_total, s.transaction_count
+                    FROM daily_account_summaries s
+                    WHERE s.user_id = :userId
+                    AND s.category_id = :sourceCategoryId
+                ) AS moved
+                ON DUPLICATE KEY UPDATE
+                    income_total = daily_account_summaries.income_total + moved.income_total,
+                    expense_total = daily_account_summaries.expense_total + moved.expense_total,
+                    transaction_count = daily_account_summaries.transaction_count + moved.transaction_count
+            """, nativeQuery = true)
+    void mergeCategoryInto(
+            @Param("userId") Long userId,
+            @Param("sourceCategoryId") Long sourceCategoryId,
+            @Param("replacementCategoryId") Long replacementCategoryId
+    );
+
+    @Modifying
+    @Query(value = """
+                DELETE FROM daily_account_summaries
+                WHERE user_id = :userId
+                AND category_id = :categoryId
+            """, nativeQuery = true)
+    void deleteByUserAndCategory(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+
+    @Modifying
+    @Query(value = """
+                DELETE FROM daily_account_summaries
+                WHERE summary_date >= :dateFrom
+                AND summary_date <= :dateTo
+            """, nativeQuery = true)
+    int deleteBySummaryDateBetween(@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo);
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO daily_account_summaries
+                    (account_id, category_id, summary_date, user_id, income_total, expense_total, transaction_count)
+                SELECT changes.account_id,
+                       changes.category_id,
+                       changes.summary_date,
+                       changes.user_id,
+                       SUM(changes.income_total),
+                       SUM(changes.expense_total),
+                       SUM(changes.transaction_count)
+                FROM (
+                    SELECT t.account_id,
+                           t.category_id,
+                           t.date AS summary_date,
+                           t.user_id,
+                           CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END AS income_total,
+                           CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END AS expense_total,
+                           1 AS transaction_count
+                    FROM transactions t
+                    WHERE t.deleted_at IS NULL
+                    AND t.date >= :dateFrom
+                    AND t.date <= :dateTo
+                    UNION ALL
+                    SELECT d.account_id,
+                           d.category_id,
+                           d.entry_date,
+                           d.user_id,
+                           -d.income_delta,
+                           -d.expense_delta,
+                           -d.transaction_count
+                    FROM account_balance_deltas d
+                    WHERE d.category_id IS NOT NULL
+                    AND d.entry_date >= :dateFrom
+                    AND d.entry_date <= :dateTo
+                ) AS changes
+                GROUP BY changes.account_id, changes.category_id, changes.summary_date, changes.user_id
+                HAVING SUM(changes.transaction_count) > 0
+            """, nativeQuery = true)
+    int insertFromTransactions(@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo);
+
+    @Query(value = "SELECT MIN(t.date) FROM transactions t WHERE t.deleted_at IS NULL", nativeQuery = true)
+    LocalDate findEarliestTransactionDate();
+
+    @Query("""
+                SELECT new org.tc.mtracker.analytics.dto.MonthlySummaryDTO(
+                    MONTH(s.id.summaryDate), SUM(s.incomeTotal), SUM(s.expenseTotal), SUM(s.transactionCount)
+                )
+                FROM DailyAccountSummary s
+                WHERE s.userId = :userId
+                AND (:accountId IS NULL OR s.id.accountId = :accountId)
+                AND s.id.summaryDate >= :dateFrom
+                AND s.id.summaryDate <= :dateTo
+                GROUP BY MONTH(s.id.summaryDate)
+                ORDER BY MONTH(s.id.summaryDate)
+            """)
+    List<MonthlySummaryDTO> sumByMonth(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo
+    );
+
+    @Query("""
+                SELECT new org.tc.mtracker.analytics.summary.DailyNetChange(
+                    s.id.summaryDate, SUM(s.incomeTotal - s.expenseTotal)
+                )
+                FROM DailyAccountSummary s
+                WHERE s.id.accountId = :accountId
+                AND s.id.summaryDate >= :dateFrom
+                AND s.id.summaryDate <= :dateTo
+                GROUP BY s.id.summaryDate
+                ORDER BY s.id.summaryDate
+            """)
+    List<DailyNetChange> sumNetChangeByDay(
+            @Param("accountId") Long accountId,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo
+    );
+}
@@ -0,0 +1,116 @@
+package org.tc.mtracker.analytics.summary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.account.AccountBalanceDelta;
+import org.tc.mtracker.account.AccountBalanceDeltaRepository;
+import org.tc.mtracker.analytics.dto.MonthlySummaryDTO;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.user.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyAccountSummaryService {
+
+    private static final Comparator<SummaryKey> SUMMARY_ROW_ORDER = Comparator.comparing(SummaryKey::accountId)
+            .thenComparing(SummaryKey::date)
+            .thenComparing(SummaryKey::categoryId);
+
+    private final DailyAccountSummaryRepository dailyAccountSummaryRepository;
+    private final AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+
+    @Transactional
+    public void applyLedgerEntries(Collection<AccountBalanceDelta> entries) {
+        Map<SummaryKey, SummaryDelta> deltas = new TreeMap<>(SUMMARY_ROW_ORDER);
+        for (AccountBalanceDelta entry : entries) {
+            if (entry.getEntryDate() == null || entry.getCategoryId() == null) {
+                continue;
+            }
+            SummaryKey key = new SummaryKey(entry.getUserId(), entry.getAccountId(), entry.getCategoryId(), entry.getEntryDate());
+            deltas.merge(key, SummaryDelta.of(entry), SummaryDelta::plus);
+        }
+
+        deltas.forEach((key, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            dailyAccountSummaryRepository.applyDelta(
+                    key.userId(),
+                    key.accountId(),
+                    key.categoryId(),
+                    key.date(),
+                    delta.income(),
+                    delta.expense(),
+                    delta.count()
+            );
+            if (delta.count() < 0) {
+                dailyAccountSummaryRepository.deleteIfEmpty(key.accountId(), key.categoryId(), key.date());
+            }
+        });
+        log.debug("Daily account summaries folded entries={} rows={}", entries.size(), deltas.size());
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlySummaryDTO> sumByMonth(Long userId, Long accountId, LocalDate dateFrom, LocalDate dateTo) {
+        Map<Integer, MonthlySummaryDTO> months = new TreeMap<>();
+        Stream.concat(
+                dailyAccountSummaryRepository.sumByMonth(userId, accountId, dateFrom, dateTo).stream(),
+                accountBalanceDeltaRepository.sumPendingByMonth(userId, accountId, dateFrom, dateTo).stream()
+        ).forEach(month -> months.merge(month.month(), month, (left, right) -> new MonthlySummaryDTO(
+                left.month(),
+                left.totalIncome().add(right.totalIncome()),
+                left.totalExpense().add(right.totalExpense()),
+                left.transactionCount() + right.transactionCount()
+        )));
+        return months.values().stream()
+                .filter(month -> month.transactionCount() > 0)
+                .toList();
+    }
+
+    @Transactional
+    public void reassignCategory(User user, Category sourceCategory, Category replacementCategory) {
+        accountBalanceDeltaRepository.reassignPendingCategory(user.getId(), sourceCategory.getId(), replacementCategory.getId());
+        dailyAccountSummaryRepository.mergeCategoryInto(user.getId(), sourceCategory.getId(), replacementCategory.getId());
+        dailyAccountSummaryRepository.deleteByUserAndCategory(user.getId(), sourceCategory.getId());
+    }
+
+    @Transactional
+    public int rebuild(LocalDate dateFrom, LocalDate dateTo) {
+        accountBalanceDeltaRepository.lockPendingByEntryDateBetween(dateFrom, dateTo);
+        int removedRows = dailyAccountSummaryRepository.deleteBySummaryDateBetween(dateFrom, dateTo);
+        int insertedRows = dailyAccountSummaryRepository.insertFromTransactions(dateFrom, dateTo);
+        log.debug("Daily account summaries rebuilt dateFrom={} dateTo={} removedRows={} insertedRows={}",
+                dateFrom, dateTo, removedRows, insertedRows);
+        return insertedRows;
+    }
+
+    private record SummaryKey(Long userId, Long accountId, Long categoryId, LocalDate date) {
+    }
+
+    private record SummaryDelta(BigDecimal income, BigDecimal expense, int count) {
+
+        static SummaryDelta of(AccountBalanceDelta entry) {
+            return new SummaryDelta(entry.getIncomeDelta(), entry.getExpenseDelta(), entry.getTransactionCount());
+        }
+
+        SummaryDelta plus(SummaryDelta other) {
+            return new SummaryDelta(income.add(other.income), expense.add(other.expense), count + other.count);
+        }
+
+        boolean isEmpty() {
+            return income.signum() == 0 && expense.signum() == 0 && count == 0;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.tc.mtracker.analytics.summary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyNetChange(LocalDate date, BigDecimal netChange) {
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryService;
 import org.tc.mtracker.category.dto.CategoryResponseDTO;
 import org.tc.mtracker.category.dto.CreateCategoryDTO;
 import org.tc.mtracker.category.dto.UpdateCategoryDTO;
@@ -13,6 +14,7 @@ import org.tc.mtracker.common.enums.TransactionType;
 import org.tc.mtracker.transaction.TransactionRepository;
 import org.tc.mtracker.transaction.recurring.RecurringTransactionRepository;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserService;
 import org.tc.mtracker.utils.exceptions.CategoryAlreadyExistsException;
 import org.tc.mtracker.utils.exceptions.CategoryNotFoundException;
@@ -31,6 +33,12 @@ public class CategoryService {
     private final UserService userService;
     private final TransactionRepository transactionRepository;
     private final RecurringTransactionRepository recurringTransactionRepository;
+    private final DailyAccountSummaryService dailyAccountSummaryService;
+    private final UserDataVersionService userDataVersionService;
+
+    public String currentETag(Authentication auth) {
+        return userDataVersionService.currentETag(auth);
+    }
 
     @Transactional(readOnly = true)
     public List<CategoryResponseDTO> getCategories(String name, List<TransactionType> types, boolean archived, Authentication auth) {
@@ -83,6 +91,7 @@ public class CategoryService {
                 .build();
 
         Category saved = categoryRepository.save(newCategory);
+        userDataVersionService.bump(currentUser);
         log.info("Category created userId={} categoryId={} type={}", currentUser.getId(), saved.getId(), saved.getType());
 
         return categoryMapper.toDto(saved);
@@ -99,6 +108,7 @@ public class CategoryService {
         category.setIcon(dto.icon());
 
         Category savedCategory = categoryRepository.save(category);
+        userDataVersionService.bump(currentUser);
         log.info("Category updated userId={} categoryId={} type={}",
                 currentUser.getId(), savedCategory.getId(), savedCategory.getType());
 
@@ -113,6 +123,7 @@ public class CategoryService {
         if (category.getStatus() != CategoryStatus.ARCHIVED) {
             category.setStatus(CategoryStatus.ARCHIVED);
             categoryRepository.save(category);
+            userDataVersionService.bump(currentUser);
             log.info("Category archived userId={} categoryId={}", currentUser.getId(), categoryId);
         }
     }
@@ -125,6 +136,7 @@ public class CategoryService {
         if (category.getStatus() != CategoryStatus.ACTIVE) {
             category.setStatus(CategoryStatus.ACTIVE);
             categoryRepository.save(category);
+            userDataVersionService.bump(currentUser);
             log.info("Category unarchived userId={} categoryId={}", currentUser.getId(), categoryId);
         }
     }
@@ -140,12 +152,14 @@ public class CategoryService {
 
         if (linkedTransactions > 0) {
             transactionRepository.reassignCategory(currentUser, category, replacementCategory);
+            dailyAccountSummaryService.reassignCategory(currentUser, category, replacementCategory);
         }
         if (linkedRecurringTransactions > 0) {
             recurringTransactionRepository.reassignCategory(currentUser, category, replacementCategory);
         }
 
         categoryRepository.delete(category);
+        userDataVersionService.bump(currentUser);
         log.info(
                 "Category deleted userId={} categoryId={} replacementCategoryId={} transferredTransactions={} transferredRecurringTransactions={}",
                 currentUser.getId(),
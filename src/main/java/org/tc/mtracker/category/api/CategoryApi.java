@@ -14,6 +14,7 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.tc.mtracker.category.dto.CategoryResponseDTO;
 import org.tc.mtracker.category.dto.CreateCategoryDTO;
 import org.tc.mtracker.category.dto.UpdateCategoryDTO;
@@ -38,6 +39,10 @@ public interface CategoryApi {
                             array = @ArraySchema(schema = @Schema(implementation = CategoryResponseDTO.class))
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid request parameters",
@@ -56,7 +61,8 @@ public interface CategoryApi {
             @RequestParam(value = "name", required = false) String name,
             @RequestParam(value = "type", required = false) List<TransactionType> type,
             @RequestParam(value = "archived", defaultValue = "false") boolean archived,
-            @Parameter(hidden = true) Authentication auth
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 
     @Operation(
@@ -69,6 +75,10 @@ public interface CategoryApi {
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = CategoryResponseDTO.class))
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+    )
     @ApiResponse(
             responseCode = "404",
             description = "Category not found",
@@ -78,7 +88,8 @@ public interface CategoryApi {
     @GetMapping("/{categoryId}")
     ResponseEntity<CategoryResponseDTO> getCategoryById(
             @PathVariable("categoryId") Long categoryId,
-            @Parameter(hidden = true) Authentication auth
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 
     @Operation(
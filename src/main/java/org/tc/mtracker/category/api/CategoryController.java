@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.tc.mtracker.category.CategoryService;
 import org.tc.mtracker.category.dto.CategoryResponseDTO;
 import org.tc.mtracker.category.dto.CreateCategoryDTO;
@@ -26,16 +27,24 @@ public class CategoryController implements CategoryApi {
             String name,
             List<TransactionType> type,
             boolean archived,
-            Authentication auth
+            Authentication auth,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(categoryService.currentETag(auth))) {
+            return null;
+        }
         return ResponseEntity.ok((categoryService.getCategories(name, type, archived, auth)));
     }
 
     @Override
     public ResponseEntity<CategoryResponseDTO> getCategoryById(
             Long categoryId,
-            Authentication auth
+            Authentication auth,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(categoryService.currentETag(auth))) {
+            return null;
+        }
         return ResponseEntity.ok(categoryService.getCategoryById(categoryId, auth));
     }
 
@@ -6,6 +6,8 @@ public final class ObjectStorageKeys {
 
     private static final String AVATARS_PREFIX = "avatars/";
     private static final String RECEIPTS_PREFIX = "receipts/";
+    private static final String RECEIPT_CONTENT_PREFIX = "receipts/sha256/";
+    private static final String THUMBNAIL_SUFFIX = "-thumbnail";
 
     private ObjectStorageKeys() {
     }
@@ -17,4 +19,16 @@ public final class ObjectStorageKeys {
     public static String receiptKey(UUID receiptId) {
         return RECEIPTS_PREFIX + receiptId;
     }
+
+    public static String receiptKey(UUID receiptId, String contentHash) {
+        return contentHash != null ? receiptContentKey(contentHash) : receiptKey(receiptId);
+    }
+
+    public static String receiptContentKey(String contentHash) {
+        return RECEIPT_CONTENT_PREFIX + contentHash;
+    }
+
+    public static String thumbnailKey(String objectKey) {
+        return objectKey + THUMBNAIL_SUFFIX;
+    }
 }
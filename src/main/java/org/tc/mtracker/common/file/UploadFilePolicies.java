@@ -5,6 +5,8 @@ import java.util.Set;
 
 public final class UploadFilePolicies {
 
+    public static final long MAX_IMAGE_FILE_SIZE = 2L * 1024 * 1024;
+
     public static final Set<SupportedUploadType> AVATAR_TYPES =
             EnumSet.of(SupportedUploadType.JPEG, SupportedUploadType.PNG, SupportedUploadType.GIF, SupportedUploadType.WEBP);
 
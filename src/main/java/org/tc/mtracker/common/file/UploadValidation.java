@@ -16,6 +16,10 @@ public final class UploadValidation {
             return true;
         }
 
+        if (file.getSize() > UploadFilePolicies.MAX_IMAGE_FILE_SIZE) {
+            return false;
+        }
+
         String contentType = file.getContentType();
         if (contentType == null || contentType.isBlank()) {
             return false;
@@ -30,6 +34,13 @@ public final class UploadValidation {
                 .anyMatch(type -> type.matchesMimeType(contentType) && type.matchesExtension(extension.get()));
     }
 
+    public static boolean isAllowed(String contentType, long size, Set<SupportedUploadType> allowedTypes) {
+        if (contentType == null || size <= 0 || size > UploadFilePolicies.MAX_IMAGE_FILE_SIZE) {
+            return false;
+        }
+        return allowedTypes.stream().anyMatch(type -> type.matchesMimeType(contentType));
+    }
+
     public static String resolveContentType(MultipartFile file) {
         String contentType = file.getContentType();
         return (contentType == null || contentType.isBlank())
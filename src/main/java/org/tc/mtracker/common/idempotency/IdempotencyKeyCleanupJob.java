@@ -0,0 +1,20 @@
+package org.tc.mtracker.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class IdempotencyKeyCleanupJob {
+
+    private final IdempotencyService idempotencyService;
+
+    @Scheduled(cron = "${app.idempotency.cleanup-cron}")
+    public void deleteExpired() {
+        int processed;
+        do {
+            processed = idempotencyService.deleteExpired();
+        } while (processed == idempotencyService.batchSize());
+    }
+}
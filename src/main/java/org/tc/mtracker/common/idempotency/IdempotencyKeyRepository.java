@@ -0,0 +1,67 @@
+package org.tc.mtracker.common.idempotency;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, IdempotencyKeyId> {
+
+    @Modifying
+    @Query(value = """
+                INSERT IGNORE INTO idempotency_keys (user_id, idempotency_key, operation, request_hash, created_at, expires_at)
+                VALUES (:userId, :key, :operation, :requestHash, :now, :expiresAt)
+            """, nativeQuery = true)
+    int claim(
+            @Param("userId") Long userId,
+            @Param("key") String key,
+            @Param("operation") String operation,
+            @Param("requestHash") String requestHash,
+            @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+                SELECT k FROM IdempotencyKey k
+                WHERE k.id.userId = :userId
+                AND k.id.key = :key
+            """)
+    Optional<IdempotencyKey> findForShare(@Param("userId") Long userId, @Param("key") String key);
+
+    @Modifying
+    @Query(value = """
+                UPDATE idempotency_keys
+                SET operation = :operation, request_hash = :requestHash, response_body = NULL, created_at = :now, expires_at = :expiresAt
+                WHERE user_id = :userId
+                AND idempotency_key = :key
+            """, nativeQuery = true)
+    int reclaim(
+            @Param("userId") Long userId,
+            @Param("key") String key,
+            @Param("operation") String operation,
+            @Param("requestHash") String requestHash,
+            @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Modifying
+    @Query(value = """
+                UPDATE idempotency_keys
+                SET response_body = :responseBody
+                WHERE user_id = :userId
+                AND idempotency_key = :key
+            """, nativeQuery = true)
+    int saveResponse(@Param("userId") Long userId, @Param("key") String key, @Param("responseBody") String responseBody);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
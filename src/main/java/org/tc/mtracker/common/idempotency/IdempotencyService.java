@@ -0,0 +1,143 @@
+package org.tc.mtracker.common.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.tc.mtracker.common.cache.ExpiringCache;
+import org.tc.mtracker.common.file.ContentHashes;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.utils.exceptions.IdempotencyKeyReusedException;
+import org.tc.mtracker.utils.exceptions.InvalidIdempotencyKeyException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final JsonMapper jsonMapper;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration cacheTtl;
+    private final int batchSize;
+    private final ExpiringCache<String, StoredResponse> responseCache;
+    private final Counter replays;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository, JsonMapper jsonMapper,
+                              Clock clock, MeterRegistry meterRegistry,
+                              @Value("${app.idempotency.ttl}") Duration ttl,
+                              @Value("${app.idempotency.cache-ttl}") Duration cacheTtl,
+                              @Value("${app.idempotency.cache-size}") int cacheSize,
+                              @Value("${app.idempotency.batch-size}") int batchSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.jsonMapper = jsonMapper;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.cacheTtl = cacheTtl;
+        this.batchSize = batchSize;
+        this.responseCache = new ExpiringCache<>("idempotency.responses", cacheSize, clock, meterRegistry);
+        this.replays = Counter.builder("idempotency.replays").register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> T execute(User user, String key, String operation, Object request, Class<T> responseType, Supplier<T> action) {
+        return execute(user, key, operation, request, responseType, action, UnaryOperator.identity());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> T execute(User user, String key, String operation, Object request, Class<T> responseType,
+                         Supplier<T> action, UnaryOperator<T> refreshReplay) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "Idempotency-Key must be between 1 and %d characters".formatted(MAX_KEY_LENGTH));
+        }
+
+        String requestHash = ContentHashes.sha256(jsonMapper.writeValueAsBytes(request));
+        String cacheKey = user.getId() + ":" + key;
+        StoredResponse cached = responseCache.get(cacheKey);
+        if (cached != null) {
+            return refreshReplay.apply(replay(user, cached, operation, requestHash, responseType));
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(ttl);
+        if (idempotencyKeyRepository.claim(user.getId(), key, operation, requestHash, now, expiresAt) == 0) {
+            Optional<IdempotencyKey> existing = idempotencyKeyRepository.findForShare(user.getId(), key);
+            if (existing.isPresent() && existing.get().getExpiresAt().isAfter(now)) {
+                StoredResponse stored = new StoredResponse(
+                        existing.get().getOperation(), existing.get().getRequestHash(), existing.get().getResponseBody());
+                T response = refreshReplay.apply(replay(user, stored, operation, requestHash, responseType));
+                cacheAfterCommit(cacheKey, stored);
+                return response;
+            }
+            if (existing.isPresent()) {
+                idempotencyKeyRepository.reclaim(user.getId(), key, operation, requestHash, now, expiresAt);
+            } else {
+                idempotencyKeyRepository.claim(user.getId(), key, operation, requestHash, now, expiresAt);
+            }
+        }
+
+        T response = action.get();
+        String responseBody = jsonMapper.writeValueAsString(response);
+        idempotencyKeyRepository.saveResponse(user.getId(), key, responseBody);
+        cacheAfterCommit(cacheKey, new StoredResponse(operation, requestHash, responseBody));
+        return response;
+    }
+
+    @Transactional
+    public int deleteExpired() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now(clock), batchSize);
+        if (deleted > 0) {
+            log.info("Expired idempotency keys deleted count={}", deleted);
+        }
+        return deleted;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    private <T> T replay(User user, StoredResponse stored, String operation, String requestHash, Class<T> responseType) {
+        if (!stored.operation().equals(operation) || !stored.requestHash().equals(requestHash)) {
+            log.warn("Idempotency key reused with a different request userId={} operation={}", user.getId(), operation);
+            throw new IdempotencyKeyReusedException("Idempotency-Key was already used for a different request");
+        }
+        if (stored.responseBody() == null) {
+            throw new IllegalStateException("Idempotency key has no stored response. userId=" + user.getId());
+        }
+
+        replays.increment();
+        log.debug("Idempotent request replayed userId={} operation={}", user.getId(), operation);
+        return jsonMapper.readValue(stored.responseBody(), responseType);
+    }
+
+    private void cacheAfterCommit(String cacheKey, StoredResponse stored) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                responseCache.put(cacheKey, stored, clock.instant().plus(cacheTtl));
+            }
+        });
+    }
+
+    private record StoredResponse(String operation, String requestHash, String responseBody) {
+    }
+}
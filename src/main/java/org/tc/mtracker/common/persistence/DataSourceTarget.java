@@ -0,0 +1,6 @@
+package org.tc.mtracker.common.persistence;
+
+public enum DataSourceTarget {
+    PRIMARY,
+    REPLICA
+}
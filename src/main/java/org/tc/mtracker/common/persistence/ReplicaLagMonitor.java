@@ -0,0 +1,59 @@
+package org.tc.mtracker.common.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long UNKNOWN_LAG = -1;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final AtomicLong lagSeconds = new AtomicLong(UNKNOWN_LAG);
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .description("Replication lag of the read replica, -1 when unknown")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval}")
+    public void refresh() {
+        try {
+            List<Long> lag = replicaJdbcTemplate.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? UNKNOWN_LAG : seconds;
+            });
+            long current = lag.isEmpty() ? UNKNOWN_LAG : lag.getFirst();
+            long previous = lagSeconds.getAndSet(current);
+            if (isWithinTolerance() != isWithinTolerance(previous)) {
+                log.info("Read replica routing changed lagSeconds={} maxLagSeconds={} routingReads={}",
+                        current, maxLag.toSeconds(), isWithinTolerance());
+            }
+        } catch (DataAccessException ex) {
+            lagSeconds.set(UNKNOWN_LAG);
+            log.warn("Failed to read replica lag, routing reads to primary", ex);
+        }
+    }
+
+    public boolean isWithinTolerance() {
+        return isWithinTolerance(lagSeconds.get());
+    }
+
+    private boolean isWithinTolerance(long seconds) {
+        return seconds != UNKNOWN_LAG && seconds <= maxLag.toSeconds();
+    }
+}
@@ -0,0 +1,78 @@
+package org.tc.mtracker.common.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.tc.mtracker.common.cache.ExpiringCache;
+
+import java.time.Clock;
+import java.time.Duration;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final int RECENT_WRITERS_CACHE_SIZE = 10_000;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Duration readYourWritesWindow;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final ExpiringCache<String, Boolean> recentWriters;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, Duration readYourWritesWindow,
+                                    Clock clock, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.recentWriters = new ExpiringCache<>("datasource.recent-writers", RECENT_WRITERS_CACHE_SIZE, clock, meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(DataSourceTarget.PRIMARY, "no_transaction");
+        }
+
+        String principal = currentPrincipal();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterAfterCommit(principal);
+            return route(DataSourceTarget.PRIMARY, "write");
+        }
+        if (principal != null && recentWriters.get(principal) != null) {
+            return route(DataSourceTarget.PRIMARY, "read_your_writes");
+        }
+        if (!lagMonitor.isWithinTolerance()) {
+            return route(DataSourceTarget.PRIMARY, "replica_lag");
+        }
+        return route(DataSourceTarget.REPLICA, "read_only");
+    }
+
+    private void rememberWriterAfterCommit(String principal) {
+        if (principal == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(principal, Boolean.TRUE, clock.instant().plus(readYourWritesWindow));
+            }
+        });
+    }
+
+    private DataSourceTarget route(DataSourceTarget target, String reason) {
+        meterRegistry.counter("datasource.routing", "target", target.name().toLowerCase(), "reason", reason).increment();
+        return target;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,115 @@
+package org.tc.mtracker.common.receipt;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+
+public final class ReceiptThumbnails {
+
+    public static final String CONTENT_TYPE = "image/webp";
+
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final byte[] PDF_SIGNATURE = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final float PDF_POINTS_PER_INCH = 72f;
+    private static final float MAX_PDF_DPI = 300f;
+
+    private ReceiptThumbnails() {
+    }
+
+    public static Optional<byte[]> render(byte[] source, int maxSize) throws IOException {
+        if (isPdf(source)) {
+            return renderPdf(source, maxSize);
+        }
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return Optional.empty();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    return Optional.empty();
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return Optional.of(toWebp(scale(reader.read(0, param), maxSize)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Optional<byte[]> renderPdf(byte[] source, int maxSize) throws IOException {
+        try (PDDocument document = Loader.loadPDF(source)) {
+            if (document.getNumberOfPages() == 0) {
+                return Optional.empty();
+            }
+
+            PDRectangle page = document.getPage(0).getCropBox();
+            float longestSide = Math.max(page.getWidth(), page.getHeight());
+            if (longestSide <= 0) {
+                return Optional.empty();
+            }
+
+            float dpi = Math.min(MAX_PDF_DPI, PDF_POINTS_PER_INCH * maxSize / longestSide);
+            BufferedImage firstPage = new PDFRenderer(document).renderImageWithDPI(0, dpi, ImageType.RGB);
+            return Optional.of(toWebp(scale(firstPage, maxSize)));
+        }
+    }
+
+    private static boolean isPdf(byte[] source) {
+        return source.length >= PDF_SIGNATURE.length
+                && Arrays.equals(source, 0, PDF_SIGNATURE.length, PDF_SIGNATURE, 0, PDF_SIGNATURE.length);
+    }
+
+    private static BufferedImage scale(BufferedImage image, int maxSize) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    private static byte[] toWebp(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "webp", out)) {
+            throw new IOException("No WebP image writer is available");
+        }
+        return out.toByteArray();
+    }
+}
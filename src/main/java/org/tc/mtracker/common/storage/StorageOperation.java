@@ -0,0 +1,5 @@
+package org.tc.mtracker.common.storage;
+
+public enum StorageOperation {
+    DELETE_OBJECT
+}
@@ -0,0 +1,25 @@
+package org.tc.mtracker.common.storage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StorageOutboxRepository extends JpaRepository<StorageOutboxEntry, Long> {
+
+    @Query(value = """
+                SELECT * FROM storage_outbox
+                WHERE next_attempt_at <= :now
+                AND attempts < :maxAttempts
+                ORDER BY next_attempt_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StorageOutboxEntry> lockDueEntries(
+            @Param("now") LocalDateTime now,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("limit") int limit
+    );
+}
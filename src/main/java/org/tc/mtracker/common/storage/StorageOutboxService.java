@@ -0,0 +1,124 @@
+package org.tc.mtracker.common.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.utils.S3Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StorageOutboxService {
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final StorageOutboxRepository storageOutboxRepository;
+    private final S3Service s3Service;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.storage.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${app.storage.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${app.storage.outbox.retry-delay}")
+    private Duration retryDelay;
+
+    @Value("${app.storage.outbox.upload-grace-period}")
+    private Duration uploadGracePeriod;
+
+    @Transactional
+    public void enqueueDeletes(Collection<String> objectKeys) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        storageOutboxRepository.saveAll(objectKeys.stream()
+                .map(objectKey -> newEntry(objectKey, now))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long guardUpload(String objectKey, Duration uploadWindow) {
+        LocalDateTime deleteAt = LocalDateTime.now(clock).plus(uploadWindow).plus(uploadGracePeriod);
+        return storageOutboxRepository.save(newEntry(objectKey, deleteAt)).getId();
+    }
+
+    @Transactional
+    public void releaseUploadGuards(Collection<Long> guardIds) {
+        if (!guardIds.isEmpty()) {
+            storageOutboxRepository.deleteAllByIdInBatch(guardIds);
+        }
+    }
+
+    @Transactional
+    public int processDueBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<StorageOutboxEntry> entries = storageOutboxRepository.lockDueEntries(now, maxAttempts, batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> failedKeys;
+        String error;
+        try {
+            failedKeys = s3Service.deleteFiles(entries.stream().map(StorageOutboxEntry::getObjectKey).toList());
+            error = "Object storage rejected the delete";
+        } catch (RuntimeException ex) {
+            failedKeys = Set.copyOf(entries.stream().map(StorageOutboxEntry::getObjectKey).toList());
+            error = ex.getMessage();
+        }
+
+        List<StorageOutboxEntry> completed = new ArrayList<>();
+        for (StorageOutboxEntry entry : entries) {
+            if (failedKeys.contains(entry.getObjectKey())) {
+                scheduleRetry(entry, error, now);
+            } else {
+                completed.add(entry);
+            }
+        }
+        storageOutboxRepository.deleteAllInBatch(completed);
+
+        meterRegistry.counter("storage.outbox.operations", "result", "success").increment(completed.size());
+        meterRegistry.counter("storage.outbox.operations", "result", "failure").increment(entries.size() - completed.size());
+        log.info("Storage outbox batch processed entries={} completed={} failed={}",
+                entries.size(), completed.size(), entries.size() - completed.size());
+        return entries.size();
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    private void scheduleRetry(StorageOutboxEntry entry, String error, LocalDateTime now) {
+        int attempts = entry.getAttempts() + 1;
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 16));
+        entry.setAttempts(attempts);
+        entry.setNextAttemptAt(now.plus(delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay));
+        entry.setLastError(error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH));
+        if (attempts >= maxAttempts) {
+            log.error("Storage outbox entry gave up entryId={} operation={} objectKey={} attempts={}",
+                    entry.getId(), entry.getOperation(), entry.getObjectKey(), attempts);
+        }
+    }
+
+    private static StorageOutboxEntry newEntry(String objectKey, LocalDateTime nextAttemptAt) {
+        return StorageOutboxEntry.builder()
+                .operation(StorageOperation.DELETE_OBJECT)
+                .objectKey(objectKey)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
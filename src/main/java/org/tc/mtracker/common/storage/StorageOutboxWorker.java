@@ -0,0 +1,20 @@
+package org.tc.mtracker.common.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class StorageOutboxWorker {
+
+    private final StorageOutboxService storageOutboxService;
+
+    @Scheduled(cron = "${app.storage.outbox.cron}")
+    public void drain() {
+        int processed;
+        do {
+            processed = storageOutboxService.processDueBatch();
+        } while (processed == storageOutboxService.batchSize());
+    }
+}
@@ -1,9 +1,9 @@
 package org.tc.mtracker.transaction;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.tc.mtracker.transaction.enums.ReceiptThumbnailStatus;
 
 import java.util.UUID;
 
@@ -11,7 +11,6 @@ import java.util.UUID;
 @Table(name = "receipt_images")
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class ReceiptImage {
 
     @Id
@@ -22,4 +21,20 @@ public class ReceiptImage {
     @JoinColumn(name = "transaction_id")
     private Transaction transaction;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status", nullable = false, length = 16)
+    private ReceiptThumbnailStatus thumbnailStatus = ReceiptThumbnailStatus.PENDING;
+
+    public ReceiptImage(UUID id, Transaction transaction) {
+        this.id = id;
+        this.transaction = transaction;
+    }
+
+    public ReceiptImage(UUID id, Transaction transaction, String contentHash) {
+        this(id, transaction);
+        this.contentHash = contentHash;
+    }
 }
@@ -0,0 +1,46 @@
+package org.tc.mtracker.transaction;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.transaction.dto.ReceiptImageRow;
+import org.tc.mtracker.transaction.enums.ReceiptThumbnailStatus;
+import org.tc.mtracker.user.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReceiptImageRepository extends JpaRepository<ReceiptImage, UUID> {
+
+    @Query("""
+                SELECT new org.tc.mtracker.transaction.dto.ReceiptImageRow(r.id, r.contentHash, r.thumbnailStatus)
+                FROM ReceiptImage r
+                WHERE r.id IN :ids
+                AND r.transaction.user = :user
+                AND r.transaction.deletedAt IS NULL
+            """)
+    List<ReceiptImageRow> findActiveRowsByIdInAndUser(@Param("ids") Collection<UUID> ids, @Param("user") User user);
+
+    @Query("""
+                SELECT r.id FROM ReceiptImage r
+                WHERE r.thumbnailStatus = :status
+                AND r.transaction.deletedAt IS NULL
+                ORDER BY r.id
+            """)
+    List<UUID> findIdsByThumbnailStatus(@Param("status") ReceiptThumbnailStatus status, Pageable pageable);
+
+    boolean existsByContentHashAndThumbnailStatus(String contentHash, ReceiptThumbnailStatus thumbnailStatus);
+
+    @Transactional
+    @Modifying
+    @Query("""
+                UPDATE ReceiptImage r
+                SET r.thumbnailStatus = :status
+                WHERE r.id = :id
+            """)
+    int updateThumbnailStatus(@Param("id") UUID id, @Param("status") ReceiptThumbnailStatus status);
+}
@@ -0,0 +1,36 @@
+package org.tc.mtracker.transaction;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "receipt_objects")
+@Getter
+@NoArgsConstructor
+public class ReceiptObject {
+
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "reference_count", nullable = false)
+    private int referenceCount;
+
+    @Column(nullable = false)
+    private boolean stored;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,67 @@
+package org.tc.mtracker.transaction;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface ReceiptObjectRepository extends JpaRepository<ReceiptObject, String> {
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = """
+                INSERT INTO receipt_objects (content_hash, size, content_type, reference_count, stored, created_at, updated_at)
+                VALUES (:contentHash, :size, :contentType, 0, FALSE, NOW(6), NOW(6))
+                ON DUPLICATE KEY UPDATE updated_at = NOW(6)
+            """, nativeQuery = true)
+    int reserve(@Param("contentHash") String contentHash, @Param("size") long size, @Param("contentType") String contentType);
+
+    @Query("""
+                SELECT o.contentHash FROM ReceiptObject o
+                WHERE o.contentHash IN :contentHashes
+                AND o.stored = TRUE
+            """)
+    Set<String> findStoredContentHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT o FROM ReceiptObject o
+                WHERE o.contentHash IN :contentHashes
+            """)
+    List<ReceiptObject> findAllForUpdateByContentHashIn(@Param("contentHashes") Collection<String> contentHashes);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE ReceiptObject o
+                SET o.referenceCount = o.referenceCount + :delta, o.stored = TRUE, o.updatedAt = LOCAL DATETIME
+                WHERE o.contentHash = :contentHash
+            """)
+    int addReferences(@Param("contentHash") String contentHash, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE ReceiptObject o
+                SET o.referenceCount = o.referenceCount - :delta, o.updatedAt = LOCAL DATETIME
+                WHERE o.contentHash = :contentHash
+            """)
+    int removeReferences(@Param("contentHash") String contentHash, @Param("delta") int delta);
+
+    @Query(value = """
+                SELECT * FROM receipt_objects o
+                WHERE o.reference_count = 0
+                AND o.updated_at < TIMESTAMPADD(SECOND, -:graceSeconds, NOW(6))
+                AND NOT EXISTS (SELECT 1 FROM receipt_images i WHERE i.content_hash = o.content_hash)
+                ORDER BY o.updated_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ReceiptObject> lockUnreferenced(@Param("graceSeconds") long graceSeconds, @Param("limit") int limit);
+}
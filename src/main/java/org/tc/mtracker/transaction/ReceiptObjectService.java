@@ -0,0 +1,116 @@
+package org.tc.mtracker.transaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import org.tc.mtracker.common.file.ObjectStorageKeys;
+import org.tc.mtracker.common.file.UploadValidation;
+import org.tc.mtracker.utils.S3Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceiptObjectService {
+
+    private final ReceiptObjectRepository receiptObjectRepository;
+    private final S3Service s3Service;
+
+    @Value("${app.receipts.objects.grace-period}")
+    private Duration gracePeriod;
+
+    @Value("${app.receipts.objects.batch-size}")
+    private int batchSize;
+
+    @Transactional
+    public void store(Collection<ReceiptImage> receipts, Map<String, MultipartFile> contentByHash) {
+        contentByHash.forEach((contentHash, file) ->
+                receiptObjectRepository.reserve(contentHash, file.getSize(), UploadValidation.resolveContentType(file)));
+
+        Set<String> storedHashes = receiptObjectRepository.findStoredContentHashes(contentByHash.keySet());
+        Map<String, MultipartFile> uploads = uploadsFor(contentByHash, hash -> !storedHashes.contains(hash));
+        if (!uploads.isEmpty()) {
+            s3Service.saveContentAddressedFiles(uploads);
+        }
+
+        List<ReceiptObject> objects = receiptObjectRepository.findAllForUpdateByContentHashIn(contentByHash.keySet());
+        Set<String> missingHashes = objects.stream()
+                .filter(object -> !object.isStored() && storedHashes.contains(object.getContentHash()))
+                .map(ReceiptObject::getContentHash)
+                .collect(Collectors.toSet());
+        if (!missingHashes.isEmpty()) {
+            s3Service.saveContentAddressedFiles(uploadsFor(contentByHash, missingHashes::contains));
+        }
+
+        referenceCounts(receipts).forEach(receiptObjectRepository::addReferences);
+        log.debug("Receipt objects referenced objects={} uploaded={} deduplicated={}",
+                objects.size(), uploads.size() + missingHashes.size(), objects.size() - uploads.size() - missingHashes.size());
+    }
+
+    @Transactional
+    public void release(Collection<ReceiptImage> receipts) {
+        Map<String, Integer> counts = referenceCounts(receipts);
+        if (counts.isEmpty()) {
+            return;
+        }
+        receiptObjectRepository.findAllForUpdateByContentHashIn(counts.keySet());
+        counts.forEach(receiptObjectRepository::removeReferences);
+    }
+
+    @Transactional
+    public int sweepUnreferenced() {
+        List<ReceiptObject> objects = receiptObjectRepository.lockUnreferenced(gracePeriod.toSeconds(), batchSize);
+        if (objects.isEmpty()) {
+            return 0;
+        }
+
+        List<String> objectKeys = new ArrayList<>(objects.size() * 2);
+        for (ReceiptObject object : objects) {
+            String objectKey = ObjectStorageKeys.receiptContentKey(object.getContentHash());
+            objectKeys.add(objectKey);
+            objectKeys.add(ObjectStorageKeys.thumbnailKey(objectKey));
+        }
+        Set<String> failedKeys = s3Service.deleteFiles(objectKeys);
+
+        List<ReceiptObject> deleted = objects.stream()
+                .filter(object -> !failedKeys.contains(ObjectStorageKeys.receiptContentKey(object.getContentHash())))
+                .toList();
+        receiptObjectRepository.deleteAllInBatch(deleted);
+        log.info("Unreferenced receipt objects swept objects={} deleted={}", objects.size(), deleted.size());
+        return deleted.size();
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    private static Map<String, MultipartFile> uploadsFor(Map<String, MultipartFile> contentByHash, Predicate<String> include) {
+        Map<String, MultipartFile> uploads = new LinkedHashMap<>();
+        contentByHash.forEach((contentHash, file) -> {
+            if (include.test(contentHash)) {
+                uploads.put(ObjectStorageKeys.receiptContentKey(contentHash), file);
+            }
+        });
+        return uploads;
+    }
+
+    private static Map<String, Integer> referenceCounts(Collection<ReceiptImage> receipts) {
+        return receipts.stream()
+                .map(ReceiptImage::getContentHash)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(contentHash -> contentHash, contentHash -> 1, Integer::sum, LinkedHashMap::new));
+    }
+}
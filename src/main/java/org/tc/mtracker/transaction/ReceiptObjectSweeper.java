@@ -0,0 +1,20 @@
+package org.tc.mtracker.transaction;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class ReceiptObjectSweeper {
+
+    private final ReceiptObjectService receiptObjectService;
+
+    @Scheduled(cron = "${app.receipts.objects.cron}")
+    public void sweep() {
+        int processed;
+        do {
+            processed = receiptObjectService.sweepUnreferenced();
+        } while (processed == receiptObjectService.batchSize());
+    }
+}
@@ -0,0 +1,132 @@
+package org.tc.mtracker.transaction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.tc.mtracker.common.file.ObjectStorageKeys;
+import org.tc.mtracker.common.receipt.ReceiptThumbnails;
+import org.tc.mtracker.transaction.enums.ReceiptThumbnailStatus;
+import org.tc.mtracker.utils.S3Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReceiptThumbnailWorker {
+
+    private final ReceiptImageRepository receiptImageRepository;
+    private final S3Service s3Service;
+
+    @Value("${app.receipts.thumbnails.max-size}")
+    private int maxSize;
+
+    @Value("${app.receipts.thumbnails.workers}")
+    private int workers;
+
+    @Value("${app.receipts.thumbnails.queue-capacity}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startExecutor() {
+        executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("receipt-thumbnail-")
+        );
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdown();
+    }
+
+    public void scheduleAfterCommit(Collection<UUID> receiptIds) {
+        if (receiptIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(receiptIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(this::submit);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(ReceiptThumbnailWorker.this::submit);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.receipts.thumbnails.cron}")
+    public void resubmitPending() {
+        if (executor.getActiveCount() > 0 || !executor.getQueue().isEmpty()) {
+            return;
+        }
+        List<UUID> pending = receiptImageRepository.findIdsByThumbnailStatus(
+                ReceiptThumbnailStatus.PENDING, PageRequest.of(0, queueCapacity));
+        if (!pending.isEmpty()) {
+            log.info("Resubmitting pending receipt thumbnails count={}", pending.size());
+            pending.forEach(this::submit);
+        }
+    }
+
+    private void submit(UUID receiptId) {
+        try {
+            executor.execute(() -> generate(receiptId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Receipt thumbnail queue is full, leaving receipt pending receiptId={}", receiptId);
+        }
+    }
+
+    private void generate(UUID receiptId) {
+        Optional<ReceiptImage> receipt = receiptImageRepository.findById(receiptId);
+        if (receipt.isEmpty()) {
+            return;
+        }
+
+        String contentHash = receipt.get().getContentHash();
+        if (contentHash != null && receiptImageRepository.existsByContentHashAndThumbnailStatus(contentHash, ReceiptThumbnailStatus.READY)) {
+            receiptImageRepository.updateThumbnailStatus(receiptId, ReceiptThumbnailStatus.READY);
+            return;
+        }
+
+        String objectKey = ObjectStorageKeys.receiptKey(receiptId, contentHash);
+        ReceiptThumbnailStatus status;
+        try {
+            Optional<byte[]> thumbnail = ReceiptThumbnails.render(s3Service.readFile(objectKey), maxSize);
+            if (thumbnail.isPresent()) {
+                s3Service.saveFile(ObjectStorageKeys.thumbnailKey(objectKey), thumbnail.get(), ReceiptThumbnails.CONTENT_TYPE);
+                status = ReceiptThumbnailStatus.READY;
+            } else {
+                status = ReceiptThumbnailStatus.UNSUPPORTED;
+            }
+        } catch (Exception e) {
+            log.warn("Receipt thumbnail generation failed receiptId={}", receiptId, e);
+            status = ReceiptThumbnailStatus.FAILED;
+        }
+
+        receiptImageRepository.updateThumbnailStatus(receiptId, status);
+        log.debug("Receipt thumbnail processed receiptId={} status={}", receiptId, status);
+    }
+}
@@ -0,0 +1,33 @@
+package org.tc.mtracker.transaction;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.tc.mtracker.user.User;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReceiptUploadRepository extends JpaRepository<ReceiptUpload, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT u FROM ReceiptUpload u
+                WHERE u.id IN :ids
+                AND u.user = :user
+            """)
+    List<ReceiptUpload> findAllForUpdateByIdInAndUser(@Param("ids") Collection<UUID> ids, @Param("user") User user);
+
+    @Modifying
+    @Query("""
+                DELETE FROM ReceiptUpload u
+                WHERE u.user = :user
+                AND u.expiresAt < :now
+            """)
+    int deleteExpiredByUser(@Param("user") User user, @Param("now") LocalDateTime now);
+}
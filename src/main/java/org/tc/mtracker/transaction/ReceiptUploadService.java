@@ -0,0 +1,117 @@
+package org.tc.mtracker.transaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.common.file.ObjectStorageKeys;
+import org.tc.mtracker.common.file.UploadFilePolicies;
+import org.tc.mtracker.common.file.UploadValidation;
+import org.tc.mtracker.common.storage.StorageOutboxService;
+import org.tc.mtracker.transaction.dto.ReceiptUploadDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUploadFileDTO;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserService;
+import org.tc.mtracker.utils.S3Service;
+import org.tc.mtracker.utils.exceptions.InvalidReceiptUploadException;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReceiptUploadService {
+
+    private final ReceiptUploadRepository receiptUploadRepository;
+    private final UserService userService;
+    private final S3Service s3Service;
+    private final StorageOutboxService storageOutboxService;
+    private final Clock clock;
+
+    @Value("${app.receipts.upload-url-ttl}")
+    private Duration uploadUrlTtl;
+
+    @Transactional
+    public List<ReceiptUploadDTO> createUploads(Authentication auth, List<ReceiptUploadFileDTO> files) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        for (ReceiptUploadFileDTO file : files) {
+            if (!UploadValidation.isAllowed(file.contentType(), file.size(), UploadFilePolicies.RECEIPT_TYPES)) {
+                log.warn("Receipt upload rejected userId={} contentType={} size={}", user.getId(), file.contentType(), file.size());
+                throw new InvalidReceiptUploadException(
+                        "Allowed receipt formats: jpg, jpeg, png, webp, pdf, at most %d bytes.".formatted(UploadFilePolicies.MAX_IMAGE_FILE_SIZE));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        receiptUploadRepository.deleteExpiredByUser(user, now);
+
+        LocalDateTime expiresAt = now.plus(uploadUrlTtl);
+        List<ReceiptUpload> uploads = new ArrayList<>(files.size());
+        List<ReceiptUploadDTO> response = new ArrayList<>(files.size());
+        for (ReceiptUploadFileDTO file : files) {
+            UUID receiptId = UUID.randomUUID();
+            String objectKey = ObjectStorageKeys.receiptKey(receiptId);
+            uploads.add(ReceiptUpload.builder()
+                    .id(receiptId)
+                    .user(user)
+                    .contentType(file.contentType())
+                    .size(file.size())
+                    .guardId(storageOutboxService.guardUpload(objectKey, uploadUrlTtl))
+                    .expiresAt(expiresAt)
+                    .build());
+            response.add(new ReceiptUploadDTO(
+                    receiptId,
+                    s3Service.generatePresignedUploadUrl(objectKey, file.contentType(), file.size(), uploadUrlTtl),
+                    expiresAt));
+        }
+        receiptUploadRepository.saveAll(uploads);
+
+        log.info("Receipt upload URLs issued userId={} count={} expiresAt={}", user.getId(), uploads.size(), expiresAt);
+        return response;
+    }
+
+    @Transactional
+    public List<UUID> claimUploads(User user, List<UUID> receiptIds) {
+        if (receiptIds == null || receiptIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> ids = new LinkedHashSet<>(receiptIds);
+        List<ReceiptUpload> uploads = receiptUploadRepository.findAllForUpdateByIdInAndUser(ids, user);
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (uploads.size() != ids.size() || uploads.stream().anyMatch(upload -> upload.getExpiresAt().isBefore(now))) {
+            log.warn("Receipt upload claim rejected userId={} requested={} found={}", user.getId(), ids.size(), uploads.size());
+            throw new InvalidReceiptUploadException("Receipt upload not found or expired");
+        }
+
+        uploads.forEach(this::verifyStoredObject);
+        storageOutboxService.releaseUploadGuards(uploads.stream().map(ReceiptUpload::getGuardId).toList());
+        receiptUploadRepository.deleteAllInBatch(uploads);
+
+        log.debug("Receipt uploads claimed userId={} count={}", user.getId(), ids.size());
+        return List.copyOf(ids);
+    }
+
+    private void verifyStoredObject(ReceiptUpload upload) {
+        HeadObjectResponse stored = s3Service.findFile(ObjectStorageKeys.receiptKey(upload.getId()))
+                .orElseThrow(() -> new InvalidReceiptUploadException("Receipt %s has not been uploaded".formatted(upload.getId())));
+
+        if (stored.contentLength() == null
+                || stored.contentLength() != upload.getSize()
+                || !upload.getContentType().equals(stored.contentType())) {
+            log.warn("Receipt upload mismatch receiptId={} expectedSize={} actualSize={} expectedType={} actualType={}",
+                    upload.getId(), upload.getSize(), stored.contentLength(), upload.getContentType(), stored.contentType());
+            throw new InvalidReceiptUploadException("Receipt %s does not match the requested upload".formatted(upload.getId()));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.tc.mtracker.transaction;
+
+public record TransactionBulkChunk(
+        int scannedCount,
+        int affectedCount,
+        Long lastId
+) {
+}
@@ -0,0 +1,102 @@
+package org.tc.mtracker.transaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.transaction.dto.TransactionBulkDeleteRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkFilterDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkRecategorizeRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkUpdateResponseDTO;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserService;
+import org.tc.mtracker.utils.exceptions.BulkFilterRequiredException;
+import org.tc.mtracker.utils.exceptions.InvalidDateRangeException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionBulkService {
+
+    private final TransactionService transactionService;
+    private final TransactionValidationService transactionValidationService;
+    private final UserService userService;
+
+    @Value("${app.transactions.bulk-chunk-size}")
+    private int chunkSize;
+
+    public TransactionBulkUpdateResponseDTO recategorize(Authentication auth, TransactionBulkRecategorizeRequestDTO requestDTO) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        TransactionFilter filter = resolveFilter(user, requestDTO.filter());
+        Category targetCategory = transactionValidationService.resolveActiveCategory(requestDTO.targetCategoryId(), user);
+        if (filter.type() != null) {
+            transactionValidationService.validateTransactionType(filter.type(), targetCategory, user);
+        }
+        TransactionFilter scopedFilter = new TransactionFilter(
+                filter.accountId(),
+                filter.categoryId(),
+                targetCategory.getType(),
+                filter.dateFrom(),
+                filter.dateTo()
+        );
+
+        int affected = 0;
+        int chunks = 0;
+        TransactionBulkChunk chunk;
+        Long afterId = 0L;
+        do {
+            chunk = transactionService.recategorizeChunk(user, scopedFilter, targetCategory, afterId, chunkSize);
+            affected += chunk.affectedCount();
+            afterId = chunk.lastId();
+            chunks++;
+        } while (chunk.scannedCount() == chunkSize);
+
+        log.info("Transactions recategorized userId={} targetCategoryId={} affected={} chunks={}",
+                user.getId(), targetCategory.getId(), affected, chunks);
+        return new TransactionBulkUpdateResponseDTO(affected);
+    }
+
+    public TransactionBulkUpdateResponseDTO delete(Authentication auth, TransactionBulkDeleteRequestDTO requestDTO) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        TransactionFilter filter = resolveFilter(user, requestDTO.filter());
+
+        int affected = 0;
+        int chunks = 0;
+        TransactionBulkChunk chunk;
+        Long afterId = 0L;
+        do {
+            chunk = transactionService.softDeleteChunk(user, filter, afterId, chunkSize);
+            affected += chunk.affectedCount();
+            afterId = chunk.lastId();
+            chunks++;
+        } while (chunk.scannedCount() == chunkSize);
+
+        log.info("Transactions bulk deleted userId={} affected={} chunks={}", user.getId(), affected, chunks);
+        return new TransactionBulkUpdateResponseDTO(affected);
+    }
+
+    private TransactionFilter resolveFilter(User user, TransactionBulkFilterDTO filterDTO) {
+        if (filterDTO.accountId() == null && filterDTO.categoryId() == null && filterDTO.type() == null
+                && filterDTO.dateFrom() == null && filterDTO.dateTo() == null) {
+            throw new BulkFilterRequiredException("At least one filter criterion is required.");
+        }
+        if (filterDTO.dateFrom() != null && filterDTO.dateTo() != null && filterDTO.dateFrom().isAfter(filterDTO.dateTo())) {
+            throw new InvalidDateRangeException("dateFrom must be on or before dateTo.");
+        }
+        if (filterDTO.accountId() != null) {
+            transactionValidationService.resolveAccount(user, filterDTO.accountId());
+        }
+        if (filterDTO.categoryId() != null) {
+            transactionValidationService.resolveAccessibleCategory(filterDTO.categoryId(), user);
+        }
+        return new TransactionFilter(
+                filterDTO.accountId(),
+                filterDTO.categoryId(),
+                filterDTO.type(),
+                filterDTO.dateFrom(),
+                filterDTO.dateTo()
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package org.tc.mtracker.transaction;
+
+import org.tc.mtracker.utils.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record TransactionCursor(LocalDate date, LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getDate(), transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Cursor is malformed.");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2])
+            );
+        } catch (InvalidCursorException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Cursor is malformed.");
+        }
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
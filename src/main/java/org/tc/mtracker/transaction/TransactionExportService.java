@@ -0,0 +1,132 @@
+package org.tc.mtracker.transaction;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.transaction.dto.TransactionExportRow;
+import org.tc.mtracker.transaction.enums.TransactionExportFormat;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionExportService {
+
+    private static final String CSV_HEADER = "id,date,type,amount,account_id,category_id,category,description,created_at";
+
+    private final TransactionRepository transactionRepository;
+    private final UserService userService;
+    private final TransactionValidationService transactionValidationService;
+
+    @Transactional(readOnly = true)
+    public User resolveExportOwner(Authentication auth, TransactionFilter filter) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        if (filter.accountId() != null) {
+            transactionValidationService.resolveAccount(user, filter.accountId());
+        }
+        if (filter.categoryId() != null) {
+            transactionValidationService.resolveAccessibleCategory(filter.categoryId(), user);
+        }
+        return user;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTransactions(User user, TransactionFilter filter, TransactionExportFormat format, OutputStream out) throws IOException {
+        long exportedRows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == TransactionExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TransactionExportRow> rows = transactionRepository.streamExportRowsByUserAndFilters(
+                user,
+                filter.accountId(),
+                filter.categoryId(),
+                filter.type(),
+                filter.dateFrom(),
+                filter.dateTo()
+        )) {
+            for (TransactionExportRow row : (Iterable<TransactionExportRow>) rows::iterator) {
+                writer.write(format == TransactionExportFormat.CSV ? toCsvLine(row) : toJsonLine(row));
+                writer.write('\n');
+                exportedRows++;
+            }
+        }
+
+        writer.flush();
+        log.info("Transactions exported userId={} format={} rows={}", user.getId(), format, exportedRows);
+    }
+
+    private static String toCsvLine(TransactionExportRow row) {
+        return String.join(",",
+                String.valueOf(row.id()),
+                String.valueOf(row.date()),
+                row.type().name(),
+                row.amount().toPlainString(),
+                String.valueOf(row.accountId()),
+                String.valueOf(row.categoryId()),
+                csvText(row.categoryName()),
+                csvText(row.description()),
+                row.createdAt() != null ? row.createdAt().toString() : ""
+        );
+    }
+
+    private static String toJsonLine(TransactionExportRow row) {
+        return "{\"id\":" + row.id()
+                + ",\"date\":" + jsonText(String.valueOf(row.date()))
+                + ",\"type\":" + jsonText(row.type().name())
+                + ",\"amount\":" + row.amount().toPlainString()
+                + ",\"accountId\":" + row.accountId()
+                + ",\"categoryId\":" + row.categoryId()
+                + ",\"category\":" + jsonText(row.categoryName())
+                + ",\"description\":" + jsonText(row.description())
+                + ",\"createdAt\":" + jsonText(row.createdAt() != null ? row.createdAt().toString() : null)
+                + "}";
+    }
+
+    private static String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String safeValue = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        boolean quoted = safeValue.contains(",") || safeValue.contains("\"") || safeValue.contains("\n") || safeValue.contains("\r");
+        return quoted ? "\"" + safeValue.replace("\"", "\"\"") + "\"" : safeValue;
+    }
+
+    private static String jsonText(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u%04x".formatted((int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -0,0 +1,14 @@
+package org.tc.mtracker.transaction;
+
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.time.LocalDate;
+
+public record TransactionFilter(
+        Long accountId,
+        Long categoryId,
+        TransactionType type,
+        LocalDate dateFrom,
+        LocalDate dateTo
+) {
+}
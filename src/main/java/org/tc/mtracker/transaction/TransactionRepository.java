@@ -1,18 +1,33 @@
 package org.tc.mtracker.transaction;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.tc.mtracker.account.AccountAmount;
+import org.tc.mtracker.analytics.dto.CategoryBreakdownItemDTO;
 import org.tc.mtracker.category.Category;
 import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.transaction.dto.TransactionExportRow;
 import org.tc.mtracker.user.User;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+    @EntityGraph(attributePaths = {"category", "receipts"})
     @Query("""
                 SELECT t FROM Transaction t
                 WHERE t.id = :id
@@ -21,6 +36,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             """)
     Optional<Transaction> findActiveByIdAndUser(@Param("id") Long id, @Param("user") User user);
 
+    @EntityGraph(attributePaths = "category")
     @Query("""
                 SELECT t FROM Transaction t
                 WHERE t.user = :user
@@ -30,6 +46,10 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
                 AND (:type IS NULL OR t.type = :type)
                 AND (:dateFrom IS NULL OR t.date >= :dateFrom)
                 AND (:dateTo IS NULL OR t.date <= :dateTo)
+                AND (:cursorDate IS NULL
+                    OR t.date < :cursorDate
+                    OR (t.date = :cursorDate AND t.createdAt < :cursorCreatedAt)
+                    OR (t.date = :cursorDate AND t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
                 ORDER BY t.date DESC, t.createdAt DESC, t.id DESC
             """)
     List<Transaction> findAllByUserAndFilters(
@@ -38,9 +58,143 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("categoryId") Long categoryId,
             @Param("type") TransactionType type,
             @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "category")
+    @Query("""
+                SELECT t FROM Transaction t
+                WHERE t.user = :user
+                AND t.deletedAt IS NULL
+                AND match_against(t.description, :searchTerms) > 0
+                AND (:accountId IS NULL OR t.account.id = :accountId)
+                AND (:categoryId IS NULL OR t.category.id = :categoryId)
+                AND (:type IS NULL OR t.type = :type)
+                AND (:dateFrom IS NULL OR t.date >= :dateFrom)
+                AND (:dateTo IS NULL OR t.date <= :dateTo)
+                AND (:cursorDate IS NULL
+                    OR t.date < :cursorDate
+                    OR (t.date = :cursorDate AND t.createdAt < :cursorCreatedAt)
+                    OR (t.date = :cursorDate AND t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.date DESC, t.createdAt DESC, t.id DESC
+            """)
+    List<Transaction> searchAllByUserAndFilters(
+            @Param("user") User user,
+            @Param("searchTerms") String searchTerms,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT t FROM Transaction t
+                WHERE t.user = :user
+                AND t.deletedAt IS NULL
+                AND (:accountId IS NULL OR t.account.id = :accountId)
+                AND (:categoryId IS NULL OR t.category.id = :categoryId)
+                AND (:type IS NULL OR t.type = :type)
+                AND (:dateFrom IS NULL OR t.date >= :dateFrom)
+                AND (:dateTo IS NULL OR t.date <= :dateTo)
+                AND t.id > :afterId
+                ORDER BY t.id
+            """)
+    List<Transaction> findChunkForUpdateByUserAndFilters(
+            @Param("user") User user,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+                SELECT new org.tc.mtracker.transaction.dto.TransactionExportRow(
+                    t.id, t.date, t.type, t.amount, t.account.id, c.id, c.name, t.description, t.createdAt
+                )
+                FROM Transaction t
+                JOIN t.category c
+                WHERE t.user = :user
+                AND t.deletedAt IS NULL
+                AND (:accountId IS NULL OR t.account.id = :accountId)
+                AND (:categoryId IS NULL OR c.id = :categoryId)
+                AND (:type IS NULL OR t.type = :type)
+                AND (:dateFrom IS NULL OR t.date >= :dateFrom)
+                AND (:dateTo IS NULL OR t.date <= :dateTo)
+                ORDER BY t.date DESC, t.createdAt DESC, t.id DESC
+            """)
+    Stream<TransactionExportRow> streamExportRowsByUserAndFilters(
+            @Param("user") User user,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("dateFrom") LocalDate dateFrom,
+            @Param("dateTo") LocalDate dateTo
+    );
+
+    @Query("""
+                SELECT new org.tc.mtracker.analytics.dto.CategoryBreakdownItemDTO(
+                    c.id, c.name, c.icon, t.type, SUM(t.amount), COUNT(t.id)
+                )
+                FROM Transaction t
+                JOIN t.category c
+                WHERE t.user = :user
+                AND t.deletedAt IS NULL
+                AND (:accountId IS NULL OR t.account.id = :accountId)
+                AND t.date >= :dateFrom
+                AND t.date <= :dateTo
+                GROUP BY c.id, c.name, c.icon, t.type
+                ORDER BY t.type, SUM(t.amount) DESC, c.id
+            """)
+    List<CategoryBreakdownItemDTO> sumByCategoryAndType(
+            @Param("user") User user,
+            @Param("accountId") Long accountId,
+            @Param("dateFrom") LocalDate dateFrom,
             @Param("dateTo") LocalDate dateTo
     );
 
+    @Query("""
+                SELECT COALESCE(SUM(CASE WHEN t.type = org.tc.mtracker.common.enums.TransactionType.INCOME
+                    THEN t.amount ELSE -t.amount END), 0)
+                FROM Transaction t
+                WHERE t.account.id = :accountId
+                AND t.deletedAt IS NULL
+                AND t.date > :after
+                AND (:upTo IS NULL OR t.date <= :upTo)
+            """)
+    BigDecimal sumNetAmountByAccountAfter(
+            @Param("accountId") Long accountId,
+            @Param("after") LocalDate after,
+            @Param("upTo") LocalDate upTo
+    );
+
+    @Query("""
+                SELECT new org.tc.mtracker.account.AccountAmount(t.account.id, SUM(CASE WHEN t.type = org.tc.mtracker.common.enums.TransactionType.INCOME
+                    THEN t.amount ELSE -t.amount END))
+                FROM Transaction t
+                WHERE t.account.id >= :fromId
+                AND t.account.id < :toId
+                AND t.deletedAt IS NULL
+                GROUP BY t.account.id
+            """)
+    List<AccountAmount> sumNetAmountByAccountIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
     long countByUserAndCategory(User user, Category category);
 
     @Modifying
@@ -55,4 +209,20 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("sourceCategory") Category sourceCategory,
             @Param("replacementCategory") Category replacementCategory
     );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE Transaction t
+                SET t.category = :category, t.updatedAt = LOCAL DATETIME
+                WHERE t.id IN :ids
+            """)
+    int reassignCategoryByIds(@Param("ids") Collection<Long> ids, @Param("category") Category category);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE Transaction t
+                SET t.deletedAt = LOCAL DATETIME, t.updatedAt = LOCAL DATETIME
+                WHERE t.id IN :ids
+            """)
+    int softDeleteByIds(@Param("ids") Collection<Long> ids);
 }
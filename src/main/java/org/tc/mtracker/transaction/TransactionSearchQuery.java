@@ -0,0 +1,22 @@
+package org.tc.mtracker.transaction;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public final class TransactionSearchQuery {
+
+    private static final int MIN_TERM_LENGTH = 3;
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private TransactionSearchQuery() {
+    }
+
+    public static String toBooleanMode(String query) {
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).replaceAll(BOOLEAN_MODE_OPERATORS, " ").split("\\s+"))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -2,56 +2,130 @@ package org.tc.mtracker.transaction;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.tc.mtracker.account.Account;
+import org.tc.mtracker.account.AccountBalanceService;
 import org.tc.mtracker.category.Category;
-import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.common.file.ContentHashes;
 import org.tc.mtracker.common.file.ObjectStorageKeys;
+import org.tc.mtracker.common.idempotency.IdempotencyService;
+import org.tc.mtracker.common.storage.StorageOutboxService;
+import org.tc.mtracker.transaction.dto.ReceiptImageRow;
+import org.tc.mtracker.transaction.dto.ReceiptUrlDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkCreateResponseDTO;
+import org.tc.mtracker.transaction.dto.TransactionCompactPageResponseDTO;
 import org.tc.mtracker.transaction.dto.TransactionCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionCreateWithReceiptsRequestDTO;
 import org.tc.mtracker.transaction.dto.TransactionMapper;
+import org.tc.mtracker.transaction.dto.TransactionPageResponseDTO;
+import org.tc.mtracker.transaction.dto.TransactionListItemDTO;
 import org.tc.mtracker.transaction.dto.TransactionResponseDTO;
+import org.tc.mtracker.transaction.enums.ReceiptThumbnailStatus;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserService;
 import org.tc.mtracker.utils.S3Service;
 import org.tc.mtracker.utils.exceptions.TransactionNotFoundException;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionService {
+    private static final String CREATE_OPERATION = "transaction.create";
+
     private final TransactionRepository transactionRepository;
+    private final ReceiptImageRepository receiptImageRepository;
     private final TransactionMapper transactionMapper;
     private final UserService userService;
     private final S3Service s3Service;
     private final TransactionValidationService transactionValidationService;
+    private final AccountBalanceService accountBalanceService;
+    private final UserDataVersionService userDataVersionService;
+    private final StorageOutboxService storageOutboxService;
+    private final ReceiptUploadService receiptUploadService;
+    private final ReceiptThumbnailWorker receiptThumbnailWorker;
+    private final ReceiptObjectService receiptObjectService;
+    private final IdempotencyService idempotencyService;
 
     @Transactional
     public TransactionResponseDTO createTransaction(Authentication auth, TransactionCreateRequestDTO createRequestDTO, List<MultipartFile> receipts) {
+        return createTransaction(userService.getCurrentAuthenticatedUser(auth), createRequestDTO, receipts);
+    }
+
+    @Transactional
+    public TransactionResponseDTO createTransaction(
+            Authentication auth,
+            TransactionCreateRequestDTO createRequestDTO,
+            List<MultipartFile> receipts,
+            String idempotencyKey
+    ) {
         User user = userService.getCurrentAuthenticatedUser(auth);
-        transactionValidationService.validateOneTimeTransactionDate(createRequestDTO.date(), user);
-        Account account = transactionValidationService.resolveAccount(user, createRequestDTO.accountId());
-        Transaction transaction = transactionMapper.toEntity(createRequestDTO, user);
-        Category category = transactionValidationService.resolveActiveCategory(createRequestDTO.categoryId(), user);
-        transactionValidationService.validateTransactionType(createRequestDTO.type(), category, user);
+        List<Object> fingerprint = new ArrayList<>();
+        fingerprint.add(createRequestDTO);
+        if (idempotencyKey != null && receipts != null) {
+            receipts.forEach(receipt -> fingerprint.add(ContentHashes.sha256(receipt)));
+        }
+        return idempotencyService.execute(user, idempotencyKey, CREATE_OPERATION, fingerprint, TransactionResponseDTO.class,
+                () -> createTransaction(user, createRequestDTO, receipts), replayed -> refreshReplayedResponse(user, replayed));
+    }
 
-        transaction.setUser(user);
-        transaction.setAccount(account);
-        transaction.setCategory(category);
-        addReceiptsToTransaction(receipts, transaction);
+    @Transactional
+    public TransactionResponseDTO createTransaction(Authentication auth, TransactionCreateWithReceiptsRequestDTO requestDTO) {
+        return createTransaction(userService.getCurrentAuthenticatedUser(auth), requestDTO);
+    }
 
-        Transaction saved = persistTransaction(transaction);
-        log.info("Transaction created userId={} transactionId={} accountId={} amount={} type={}",
-                user.getId(), saved.getId(), account.getId(), saved.getAmount(), saved.getType());
+    @Transactional
+    public TransactionResponseDTO createTransaction(Authentication auth, TransactionCreateWithReceiptsRequestDTO requestDTO, String idempotencyKey) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        return idempotencyService.execute(user, idempotencyKey, CREATE_OPERATION, requestDTO, TransactionResponseDTO.class,
+                () -> createTransaction(user, requestDTO), replayed -> refreshReplayedResponse(user, replayed));
+    }
 
-        return toResponseDto(saved);
+    @Transactional
+    public TransactionBulkCreateResponseDTO createTransactions(Authentication auth, List<TransactionCreateRequestDTO> createRequests) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        Map<Long, Account> accounts = new HashMap<>();
+        Map<Long, Category> categories = new HashMap<>();
+
+        List<Transaction> transactions = new ArrayList<>(createRequests.size());
+        for (TransactionCreateRequestDTO createRequestDTO : createRequests) {
+            transactionValidationService.validateOneTimeTransactionDate(createRequestDTO.date(), user);
+            Account account = accounts.computeIfAbsent(createRequestDTO.accountId(),
+                    accountId -> transactionValidationService.resolveAccount(user, accountId));
+            Category category = categories.computeIfAbsent(createRequestDTO.categoryId(),
+                    categoryId -> transactionValidationService.resolveActiveCategory(categoryId, user));
+            transactionValidationService.validateTransactionType(createRequestDTO.type(), category, user);
+
+            Transaction transaction = transactionMapper.toEntity(createRequestDTO, user);
+            transaction.setUser(user);
+            transaction.setAccount(account);
+            transaction.setCategory(category);
+            transactions.add(transaction);
+        }
+
+        List<Transaction> saved = persistTransactions(user, transactions);
+        log.info("Transactions bulk created userId={} count={}", user.getId(), saved.size());
+        return new TransactionBulkCreateResponseDTO(saved.size(), saved.stream().map(Transaction::getId).toList());
+    }
+
+    @Transactional
+    public List<Transaction> importTransactions(User user, List<Transaction> transactions) {
+        List<Transaction> saved = persistTransactions(user, transactions);
+        log.debug("Imported transactions persisted userId={} count={}", user.getId(), saved.size());
+        return saved;
     }
 
     @Transactional
@@ -67,29 +141,54 @@ public class TransactionService {
         return saved;
     }
 
+    public String currentETag(Authentication auth) {
+        return userDataVersionService.currentETag(auth, s3Service.presignedUrlEpoch());
+    }
+
+    public String currentCompactETag(Authentication auth) {
+        return userDataVersionService.currentETag(auth);
+    }
+
     @Transactional(readOnly = true)
-    public List<TransactionResponseDTO> getTransactions(
+    public TransactionPageResponseDTO getTransactions(
             Authentication auth,
-            Long accountId,
-            Long categoryId,
-            TransactionType type,
-            LocalDate dateFrom,
-            LocalDate dateTo
+            TransactionFilter filter,
+            String query,
+            String cursor,
+            int limit
     ) {
-        User user = userService.getCurrentAuthenticatedUser(auth);
-        log.debug("Loading transactions for userId={} accountId={} categoryId={} type={} dateFrom={} dateTo={}",
-                user.getId(), accountId, categoryId, type, dateFrom, dateTo);
+        TransactionSlice slice = loadPage(auth, filter, query, cursor, limit);
+        return new TransactionPageResponseDTO(slice.items().stream().map(this::toResponseDto).toList(), slice.nextCursor());
+    }
 
-        if (accountId != null) {
-            transactionValidationService.resolveAccount(user, accountId);
-        }
-        if (categoryId != null) {
-            transactionValidationService.resolveAccessibleCategory(categoryId, user);
-        }
+    @Transactional(readOnly = true)
+    public TransactionCompactPageResponseDTO getCompactTransactions(
+            Authentication auth,
+            TransactionFilter filter,
+            String query,
+            String cursor,
+            int limit
+    ) {
+        TransactionSlice slice = loadPage(auth, filter, query, cursor, limit);
+        return new TransactionCompactPageResponseDTO(slice.items().stream().map(this::toListItemDto).toList(), slice.nextCursor());
+    }
 
-        return transactionRepository.findAllByUserAndFilters(user, accountId, categoryId, type, dateFrom, dateTo)
-                .stream()
-                .map(this::toResponseDto)
+    @Transactional(readOnly = true)
+    public List<ReceiptUrlDTO> getReceiptUrls(Authentication auth, List<UUID> receiptIds) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        List<ReceiptImageRow> owned = receiptImageRepository.findActiveRowsByIdInAndUser(new LinkedHashSet<>(receiptIds), user);
+        log.debug("Receipt URLs requested userId={} requested={} owned={}", user.getId(), receiptIds.size(), owned.size());
+
+        return owned.stream()
+                .map(receipt -> {
+                    String objectKey = ObjectStorageKeys.receiptKey(receipt.id(), receipt.contentHash());
+                    return new ReceiptUrlDTO(
+                            receipt.id(),
+                            s3Service.generatePresignedUrl(objectKey),
+                            receipt.thumbnailStatus() == ReceiptThumbnailStatus.READY
+                                    ? s3Service.generatePresignedUrl(ObjectStorageKeys.thumbnailKey(objectKey))
+                                    : null);
+                })
                 .toList();
     }
 
@@ -107,17 +206,17 @@ public class TransactionService {
         transactionValidationService.validateOneTimeTransactionDate(updateRequestDTO.date(), user);
         Transaction transaction = findActiveOwnedTransaction(transactionId, user);
 
-        Account currentAccount = transaction.getAccount();
         Account targetAccount = transactionValidationService.resolveAccount(user, updateRequestDTO.accountId());
         Category category = transactionValidationService.resolveActiveCategory(updateRequestDTO.categoryId(), user);
 
         transactionValidationService.validateTransactionType(updateRequestDTO.type(), category, user);
 
-        revertBalanceDelta(currentAccount, transaction);
+        accountBalanceService.revertTransaction(transaction);
         transactionMapper.updateEntity(updateRequestDTO, transaction);
         transaction.setAccount(targetAccount);
         transaction.setCategory(category);
-        applyBalanceDelta(targetAccount, transaction);
+        accountBalanceService.recordTransaction(transaction);
+        userDataVersionService.bump(user);
 
         Transaction saved = transactionRepository.save(transaction);
         log.info("Transaction updated userId={} transactionId={} accountId={} amount={} type={}",
@@ -130,34 +229,180 @@ public class TransactionService {
         User user = userService.getCurrentAuthenticatedUser(auth);
         Transaction transaction = findActiveOwnedTransaction(transactionId, user);
 
-        revertBalanceDelta(transaction.getAccount(), transaction);
+        accountBalanceService.revertTransaction(transaction);
+        userDataVersionService.bump(user);
         deleteReceipts(transaction);
         transactionRepository.delete(transaction);
         log.info("Transaction deleted userId={} transactionId={}", user.getId(), transactionId);
     }
 
-    private static void applyBalanceDelta(Account account, Transaction transaction) {
-        account.setBalance(currentBalance(account).add(calculateDelta(transaction.getType(), transaction.getAmount())));
+    @Transactional
+    public TransactionBulkChunk recategorizeChunk(
+            User user,
+            TransactionFilter filter,
+            Category targetCategory,
+            Long afterId,
+            int chunkSize
+    ) {
+        List<Transaction> chunk = findChunkForUpdate(user, filter, afterId, chunkSize);
+        List<Transaction> moved = chunk.stream()
+                .filter(transaction -> !transaction.getCategory().getId().equals(targetCategory.getId()))
+                .toList();
+
+        if (!moved.isEmpty()) {
+            accountBalanceService.reassignTransactions(moved, targetCategory);
+            transactionRepository.reassignCategoryByIds(moved.stream().map(Transaction::getId).toList(), targetCategory);
+            userDataVersionService.bump(user);
+        }
+        return new TransactionBulkChunk(chunk.size(), moved.size(), chunk.isEmpty() ? afterId : chunk.getLast().getId());
+    }
+
+    @Transactional
+    public TransactionBulkChunk softDeleteChunk(User user, TransactionFilter filter, Long afterId, int chunkSize) {
+        List<Transaction> chunk = findChunkForUpdate(user, filter, afterId, chunkSize);
+
+        if (!chunk.isEmpty()) {
+            accountBalanceService.revertTransactions(chunk);
+            transactionRepository.softDeleteByIds(chunk.stream().map(Transaction::getId).toList());
+            userDataVersionService.bump(user);
+        }
+        return new TransactionBulkChunk(chunk.size(), chunk.size(), chunk.isEmpty() ? afterId : chunk.getLast().getId());
     }
 
-    private static void revertBalanceDelta(Account account, Transaction transaction) {
-        account.setBalance(currentBalance(account).subtract(calculateDelta(transaction.getType(), transaction.getAmount())));
+    private TransactionResponseDTO createTransaction(User user, TransactionCreateRequestDTO createRequestDTO, List<MultipartFile> receipts) {
+        Transaction transaction = buildTransaction(user, createRequestDTO);
+        addReceiptsToTransaction(receipts, transaction);
+
+        Transaction saved = persistTransaction(transaction);
+        receiptThumbnailWorker.scheduleAfterCommit(saved.getReceipts().stream().map(ReceiptImage::getId).toList());
+        log.info("Transaction created userId={} transactionId={} accountId={} amount={} type={}",
+                user.getId(), saved.getId(), saved.getAccount().getId(), saved.getAmount(), saved.getType());
+
+        return toResponseDto(saved);
+    }
+
+    private TransactionResponseDTO createTransaction(User user, TransactionCreateWithReceiptsRequestDTO requestDTO) {
+        Transaction transaction = buildTransaction(user, requestDTO.transaction());
+        receiptUploadService.claimUploads(user, requestDTO.receiptIds())
+                .forEach(receiptId -> transaction.addReceipt(new ReceiptImage(receiptId, transaction)));
+
+        Transaction saved = persistTransaction(transaction);
+        receiptThumbnailWorker.scheduleAfterCommit(saved.getReceipts().stream().map(ReceiptImage::getId).toList());
+        log.info("Transaction created with uploaded receipts userId={} transactionId={} accountId={} receipts={}",
+                user.getId(), saved.getId(), saved.getAccount().getId(), saved.getReceipts().size());
+
+        return toResponseDto(saved);
+    }
+
+    private Transaction buildTransaction(User user, TransactionCreateRequestDTO createRequestDTO) {
+        transactionValidationService.validateOneTimeTransactionDate(createRequestDTO.date(), user);
+        Account account = transactionValidationService.resolveAccount(user, createRequestDTO.accountId());
+        Transaction transaction = transactionMapper.toEntity(createRequestDTO, user);
+        Category category = transactionValidationService.resolveActiveCategory(createRequestDTO.categoryId(), user);
+        transactionValidationService.validateTransactionType(createRequestDTO.type(), category, user);
+
+        transaction.setUser(user);
+        transaction.setAccount(account);
+        transaction.setCategory(category);
+        return transaction;
+    }
+
+    private TransactionSlice loadPage(Authentication auth, TransactionFilter filter, String query, String cursor, int limit) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        log.debug("Loading transactions for userId={} accountId={} categoryId={} type={} dateFrom={} dateTo={} searching={} limit={}",
+                user.getId(), filter.accountId(), filter.categoryId(), filter.type(), filter.dateFrom(), filter.dateTo(),
+                query != null && !query.isBlank(), limit);
+
+        if (filter.accountId() != null) {
+            transactionValidationService.resolveAccount(user, filter.accountId());
+        }
+        if (filter.categoryId() != null) {
+            transactionValidationService.resolveAccessibleCategory(filter.categoryId(), user);
+        }
+
+        TransactionCursor after = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+        List<Transaction> rows = query == null || query.isBlank()
+                ? findPage(user, filter, after, limit)
+                : searchPage(user, TransactionSearchQuery.toBooleanMode(query), filter, after, limit);
+
+        boolean hasNextPage = rows.size() > limit;
+        List<Transaction> page = hasNextPage ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNextPage ? TransactionCursor.of(page.getLast()).encode() : null;
+
+        return new TransactionSlice(page, nextCursor);
+    }
+
+    private List<Transaction> findPage(User user, TransactionFilter filter, TransactionCursor after, int limit) {
+        return transactionRepository.findAllByUserAndFilters(
+                user,
+                filter.accountId(),
+                filter.categoryId(),
+                filter.type(),
+                filter.dateFrom(),
+                filter.dateTo(),
+                after != null ? after.date() : null,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, limit + 1)
+        );
+    }
+
+    private List<Transaction> findChunkForUpdate(User user, TransactionFilter filter, Long afterId, int chunkSize) {
+        return transactionRepository.findChunkForUpdateByUserAndFilters(
+                user,
+                filter.accountId(),
+                filter.categoryId(),
+                filter.type(),
+                filter.dateFrom(),
+                filter.dateTo(),
+                afterId,
+                PageRequest.of(0, chunkSize)
+        );
+    }
+
+    private List<Transaction> searchPage(User user, String searchTerms, TransactionFilter filter, TransactionCursor after, int limit) {
+        if (searchTerms.isEmpty()) {
+            return List.of();
+        }
+        return transactionRepository.searchAllByUserAndFilters(
+                user,
+                searchTerms,
+                filter.accountId(),
+                filter.categoryId(),
+                filter.type(),
+                filter.dateFrom(),
+                filter.dateTo(),
+                after != null ? after.date() : null,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, limit + 1)
+        );
     }
 
     private void addReceiptsToTransaction(List<MultipartFile> receipts, Transaction transaction) {
-        if (receipts != null && !receipts.isEmpty()) {
-            log.debug("Uploading {} receipt(s) for transaction userId={}", receipts.size(), transaction.getUser().getId());
-            for (MultipartFile receipt : receipts) {
-                ReceiptImage receiptImage = new ReceiptImage(UUID.randomUUID(), transaction);
-                s3Service.saveFile(receiptObjectKey(receiptImage), receipt);
-                transaction.addReceipt(receiptImage);
-            }
+        if (receipts == null || receipts.isEmpty()) {
+            return;
+        }
+        log.debug("Uploading {} receipt(s) for transaction userId={}", receipts.size(), transaction.getUser().getId());
+        Map<String, MultipartFile> contentByHash = new LinkedHashMap<>();
+        List<ReceiptImage> receiptImages = new ArrayList<>(receipts.size());
+        for (MultipartFile receipt : receipts) {
+            String contentHash = ContentHashes.sha256(receipt);
+            contentByHash.putIfAbsent(contentHash, receipt);
+            receiptImages.add(new ReceiptImage(UUID.randomUUID(), transaction, contentHash));
         }
+
+        receiptObjectService.store(receiptImages, contentByHash);
+        receiptImages.forEach(transaction::addReceipt);
     }
 
     private void deleteReceipts(Transaction transaction) {
-        transaction.getReceipts()
-                .forEach(receipt -> s3Service.deleteFile(receiptObjectKey(receipt)));
+        receiptObjectService.release(transaction.getReceipts());
+        storageOutboxService.enqueueDeletes(transaction.getReceipts().stream()
+                .filter(receipt -> receipt.getContentHash() == null)
+                .map(this::receiptObjectKey)
+                .flatMap(objectKey -> Stream.of(objectKey, ObjectStorageKeys.thumbnailKey(objectKey)))
+                .toList());
     }
 
     private List<String> generatePresignedUrlsForReceipts(Transaction saved) {
@@ -170,19 +415,39 @@ public class TransactionService {
     }
 
     private String receiptObjectKey(ReceiptImage receiptImage) {
-        return ObjectStorageKeys.receiptKey(receiptImage.getId());
+        return ObjectStorageKeys.receiptKey(receiptImage.getId(), receiptImage.getContentHash());
     }
 
     private Transaction persistTransaction(Transaction transaction) {
         Transaction saved = transactionRepository.save(transaction);
-        applyBalanceDelta(saved.getAccount(), saved);
+        accountBalanceService.recordTransaction(saved);
+        userDataVersionService.bump(saved.getUser());
         return saved;
     }
 
+    private List<Transaction> persistTransactions(User user, List<Transaction> transactions) {
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+        accountBalanceService.recordTransactions(saved);
+        userDataVersionService.bump(user);
+        return saved;
+    }
+
+    private TransactionResponseDTO refreshReplayedResponse(User user, TransactionResponseDTO replayed) {
+        return transactionRepository.findActiveByIdAndUser(replayed.id(), user)
+                .map(this::toResponseDto)
+                .orElseGet(() -> new TransactionResponseDTO(replayed.id(), replayed.accountId(), replayed.amount(),
+                        replayed.category(), replayed.description(), replayed.type(), List.of(), replayed.date(),
+                        replayed.createdAt(), replayed.updatedAt()));
+    }
+
     private TransactionResponseDTO toResponseDto(Transaction transaction) {
         return transactionMapper.toDto(transaction, generatePresignedUrlsForReceipts(transaction));
     }
 
+    private TransactionListItemDTO toListItemDto(Transaction transaction) {
+        return transactionMapper.toListItemDto(transaction, transaction.getReceipts().stream().map(ReceiptImage::getId).toList());
+    }
+
     private Transaction findActiveOwnedTransaction(Long transactionId, User user) {
         return transactionRepository.findActiveByIdAndUser(transactionId, user)
                 .orElseThrow(() -> {
@@ -191,12 +456,6 @@ public class TransactionService {
                 });
     }
 
-    private static BigDecimal calculateDelta(TransactionType type, BigDecimal amount) {
-        return type == TransactionType.INCOME ? amount : amount.negate();
+    private record TransactionSlice(List<Transaction> items, String nextCursor) {
     }
-
-    private static BigDecimal currentBalance(Account account) {
-        return account.getBalance() == null ? BigDecimal.ZERO : account.getBalance();
-    }
-
 }
@@ -8,6 +8,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
@@ -15,11 +17,26 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.tc.mtracker.common.enums.TransactionType;
 import org.tc.mtracker.common.receipt.ValidReceiptFile;
+import org.tc.mtracker.transaction.dto.ReceiptUploadDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUploadRequestDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUrlDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUrlsRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkCreateResponseDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkDeleteRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkRecategorizeRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkUpdateResponseDTO;
+import org.tc.mtracker.transaction.dto.TransactionCompactPageResponseDTO;
 import org.tc.mtracker.transaction.dto.TransactionCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionCreateWithReceiptsRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionPageResponseDTO;
 import org.tc.mtracker.transaction.dto.TransactionResponseDTO;
+import org.tc.mtracker.transaction.enums.TransactionExportFormat;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -30,21 +47,142 @@ public interface TransactionApi {
 
     @Operation(
             summary = "Get transactions",
-            description = "Returns the authenticated user's transactions filtered by account, category, type, and date range. Category filters can reference both active and archived categories that still exist in historical transactions."
+            description = "Returns one page of the authenticated user's transactions filtered by account, category, type, date range, and optional full-text search over descriptions, newest first. Pass nextCursor from the previous page as cursor to continue. Category filters can reference both active and archived categories that still exist in historical transactions."
     )
     @ApiResponse(
             responseCode = "200",
             description = "Transactions returned",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    array = @ArraySchema(schema = @Schema(implementation = TransactionResponseDTO.class)))
+                    schema = @Schema(implementation = TransactionPageResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
     )
     @GetMapping
-    ResponseEntity<List<TransactionResponseDTO>> getTransactions(
+    ResponseEntity<TransactionPageResponseDTO> getTransactions(
+            @RequestParam(name = "accountId", required = false) Long accountId,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "type", required = false) TransactionType type,
+            @RequestParam(name = "dateFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(name = "dateTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @Parameter(description = "Words that must all appear in the description, matched by prefix. Words shorter than 3 characters are ignored")
+            @RequestParam(name = "q", required = false) @Size(max = 100) String q,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size, from 1 to 200")
+            @RequestParam(name = "limit", defaultValue = "50") @Min(1) @Max(200) int limit,
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(
+            summary = "Get compact transactions",
+            description = "Returns the same page as Get transactions, but lists receipt IDs instead of presigned receipt URLs. Use Get receipt URLs to resolve only the receipts that are actually shown."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Transactions returned",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TransactionCompactPageResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping("/compact")
+    ResponseEntity<TransactionCompactPageResponseDTO> getCompactTransactions(
             @RequestParam(name = "accountId", required = false) Long accountId,
             @RequestParam(name = "categoryId", required = false) Long categoryId,
             @RequestParam(name = "type", required = false) TransactionType type,
             @RequestParam(name = "dateFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
             @RequestParam(name = "dateTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @Parameter(description = "Words that must all appear in the description, matched by prefix. Words shorter than 3 characters are ignored")
+            @RequestParam(name = "q", required = false) @Size(max = 100) String q,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size, from 1 to 200")
+            @RequestParam(name = "limit", defaultValue = "50") @Min(1) @Max(200) int limit,
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(hidden = true) WebRequest webRequest
+    );
+
+    @Operation(
+            summary = "Get receipt URLs",
+            description = "Generates presigned download URLs for up to 200 receipts in one call. Receipts that do not exist or belong to deleted or foreign transactions are omitted."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Receipt URLs returned",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = ReceiptUrlDTO.class)))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Empty or too many receipt IDs",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping("/receipts/urls")
+    ResponseEntity<List<ReceiptUrlDTO>> getReceiptUrls(
+            @Valid @RequestBody ReceiptUrlsRequestDTO requestDTO,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Create receipt upload URLs",
+            description = "Generates presigned PUT URLs for up to 10 receipt files so the client can upload them directly to storage. Confirm the returned receipt IDs when creating the transaction. Uploads that are not confirmed are deleted after the URLs expire."
+    )
+    @ApiResponse(
+            responseCode = "201",
+            description = "Upload URLs created",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = ReceiptUploadDTO.class)))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Empty or too many files, unsupported content type or file too large",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping("/receipts/uploads")
+    ResponseEntity<List<ReceiptUploadDTO>> createReceiptUploads(
+            @Valid @RequestBody ReceiptUploadRequestDTO requestDTO,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Export transactions",
+            description = "Streams all of the authenticated user's transactions matching the filters as CSV or newline-delimited JSON, newest first. Receipt URLs are not included."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Export stream started",
+            content = {
+                    @Content(mediaType = "text/csv", schema = @Schema(type = "string", format = "binary")),
+                    @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string", format = "binary"))
+            }
+    )
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(name = "accountId", required = false) Long accountId,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "type", required = false) TransactionType type,
+            @RequestParam(name = "dateFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(name = "dateTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(name = "format", defaultValue = "CSV") TransactionExportFormat format,
             @Parameter(hidden = true) Authentication auth
     );
 
@@ -58,6 +196,10 @@ public interface TransactionApi {
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = TransactionResponseDTO.class))
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+    )
     @ApiResponse(
             responseCode = "404",
             description = "Transaction not found",
@@ -67,7 +209,8 @@ public interface TransactionApi {
     @GetMapping("/{transactionId}")
     ResponseEntity<TransactionResponseDTO> getTransactionById(
             @PathVariable Long transactionId,
-            @Parameter(hidden = true) Authentication auth
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(hidden = true) WebRequest webRequest
     );
 
     @Operation(
@@ -86,6 +229,12 @@ public interface TransactionApi {
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ProblemDetail.class))
     )
+    @ApiResponse(
+            responseCode = "422",
+            description = "Idempotency-Key was already used for a different request",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     ResponseEntity<TransactionResponseDTO> createTransaction(
             @Parameter(hidden = true) Authentication auth,
@@ -113,7 +262,106 @@ public interface TransactionApi {
             )
             @RequestPart(name = "receipts", required = false)
             @Size(max = 10)
-            List<@ValidReceiptFile MultipartFile> receipts
+            List<@ValidReceiptFile MultipartFile> receipts,
+
+            @Parameter(description = "Client-generated key that makes retries of this request return the original response instead of creating a duplicate. Keys are kept for 24 hours.")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
+    );
+
+    @Operation(
+            summary = "Create transaction with uploaded receipts",
+            description = "Creates a one-time transaction and attaches receipts that the client uploaded directly to storage with URLs from Create receipt upload URLs. Each receipt must be uploaded with the requested content type and size before its upload URL expires."
+    )
+    @ApiResponse(
+            responseCode = "201",
+            description = "Transaction created successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TransactionResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input data, or a receipt is unknown, expired, missing from storage or does not match the requested upload",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @ApiResponse(
+            responseCode = "422",
+            description = "Idempotency-Key was already used for a different request",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<TransactionResponseDTO> createTransactionWithUploadedReceipts(
+            @Valid @RequestBody TransactionCreateWithReceiptsRequestDTO requestDTO,
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(description = "Client-generated key that makes retries of this request return the original response instead of creating a duplicate. Keys are kept for 24 hours.")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
+    );
+
+    @Operation(
+            summary = "Create transactions in bulk",
+            description = "Creates up to 1000 one-time transactions without receipts in a single database transaction. Either every transaction is created or none is. Account balances are adjusted once per account."
+    )
+    @ApiResponse(
+            responseCode = "201",
+            description = "Transactions created successfully",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TransactionBulkCreateResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input data, too many transactions, or a transaction date is in the future",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<TransactionBulkCreateResponseDTO> createTransactions(
+            @Valid @RequestBody TransactionBulkCreateRequestDTO requestDTO,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Recategorize transactions by filter",
+            description = "Moves every transaction matching the filter to the target category. Only transactions of the target category type are moved. Rows are updated in chunks, each chunk in its own database transaction."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Transactions recategorized",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TransactionBulkUpdateResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Empty filter, invalid date range, inactive target category or type mismatch",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping(value = "/bulk/recategorize", consumes = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<TransactionBulkUpdateResponseDTO> recategorizeTransactions(
+            @Valid @RequestBody TransactionBulkRecategorizeRequestDTO requestDTO,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Delete transactions by filter",
+            description = "Soft-deletes every transaction matching the filter and corrects account balances once per account. Rows are updated in chunks, each chunk in its own database transaction."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Transactions deleted",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = TransactionBulkUpdateResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Empty filter or invalid date range",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping(value = "/bulk/delete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<TransactionBulkUpdateResponseDTO> deleteTransactions(
+            @Valid @RequestBody TransactionBulkDeleteRequestDTO requestDTO,
+            @Parameter(hidden = true) Authentication auth
     );
 
     @Operation(
@@ -1,15 +1,37 @@
 package org.tc.mtracker.transaction.api;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.transaction.ReceiptUploadService;
+import org.tc.mtracker.transaction.TransactionBulkService;
+import org.tc.mtracker.transaction.TransactionExportService;
+import org.tc.mtracker.transaction.TransactionFilter;
 import org.tc.mtracker.transaction.TransactionService;
+import org.tc.mtracker.transaction.dto.ReceiptUploadDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUploadRequestDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUrlDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUrlsRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkCreateResponseDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkDeleteRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkRecategorizeRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkUpdateResponseDTO;
+import org.tc.mtracker.transaction.dto.TransactionCompactPageResponseDTO;
 import org.tc.mtracker.transaction.dto.TransactionCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionCreateWithReceiptsRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionPageResponseDTO;
 import org.tc.mtracker.transaction.dto.TransactionResponseDTO;
+import org.tc.mtracker.transaction.enums.TransactionExportFormat;
+import org.tc.mtracker.user.User;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,24 +40,93 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TransactionController implements TransactionApi {
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionBulkService transactionBulkService;
+    private final ReceiptUploadService receiptUploadService;
 
     @Override
-    public ResponseEntity<List<TransactionResponseDTO>> getTransactions(
+    public ResponseEntity<TransactionPageResponseDTO> getTransactions(
             Long accountId,
             Long categoryId,
             TransactionType type,
             LocalDate dateFrom,
             LocalDate dateTo,
+            String q,
+            String cursor,
+            int limit,
+            Authentication auth,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(transactionService.currentETag(auth))) {
+            return null;
+        }
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type, dateFrom, dateTo);
+        return ResponseEntity.ok(transactionService.getTransactions(auth, filter, q, cursor, limit));
+    }
+
+    @Override
+    public ResponseEntity<TransactionCompactPageResponseDTO> getCompactTransactions(
+            Long accountId,
+            Long categoryId,
+            TransactionType type,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            String q,
+            String cursor,
+            int limit,
+            Authentication auth,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(transactionService.currentCompactETag(auth))) {
+            return null;
+        }
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type, dateFrom, dateTo);
+        return ResponseEntity.ok(transactionService.getCompactTransactions(auth, filter, q, cursor, limit));
+    }
+
+    @Override
+    public ResponseEntity<List<ReceiptUrlDTO>> getReceiptUrls(ReceiptUrlsRequestDTO requestDTO, Authentication auth) {
+        return ResponseEntity.ok(transactionService.getReceiptUrls(auth, requestDTO.receiptIds()));
+    }
+
+    @Override
+    public ResponseEntity<List<ReceiptUploadDTO>> createReceiptUploads(ReceiptUploadRequestDTO requestDTO, Authentication auth) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(receiptUploadService.createUploads(auth, requestDTO.files()));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            Long accountId,
+            Long categoryId,
+            TransactionType type,
+            LocalDate dateFrom,
+            LocalDate dateTo,
+            TransactionExportFormat format,
             Authentication auth
     ) {
-        return ResponseEntity.ok(transactionService.getTransactions(auth, accountId, categoryId, type, dateFrom, dateTo));
+        TransactionFilter filter = new TransactionFilter(accountId, categoryId, type, dateFrom, dateTo);
+        User owner = transactionExportService.resolveExportOwner(auth, filter);
+        StreamingResponseBody body = out -> transactionExportService.exportTransactions(owner, filter, format, out);
+
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @Override
     public ResponseEntity<TransactionResponseDTO> getTransactionById(
             Long transactionId,
-            Authentication auth
+            Authentication auth,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(transactionService.currentETag(auth))) {
+            return null;
+        }
         return ResponseEntity.ok(transactionService.getTransactionById(transactionId, auth));
     }
 
@@ -43,9 +134,45 @@ public class TransactionController implements TransactionApi {
     public ResponseEntity<TransactionResponseDTO> createTransaction(
             Authentication auth,
             TransactionCreateRequestDTO createRequestDTO,
-            List<MultipartFile> receipts) {
+            List<MultipartFile> receipts,
+            String idempotencyKey) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(transactionService.createTransaction(auth, createRequestDTO, receipts, idempotencyKey));
+    }
+
+    @Override
+    public ResponseEntity<TransactionResponseDTO> createTransactionWithUploadedReceipts(
+            TransactionCreateWithReceiptsRequestDTO requestDTO,
+            Authentication auth,
+            String idempotencyKey
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(transactionService.createTransaction(auth, requestDTO, idempotencyKey));
+    }
+
+    @Override
+    public ResponseEntity<TransactionBulkCreateResponseDTO> createTransactions(
+            TransactionBulkCreateRequestDTO requestDTO,
+            Authentication auth
+    ) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(transactionService.createTransaction(auth, createRequestDTO, receipts));
+                .body(transactionService.createTransactions(auth, requestDTO.transactions()));
+    }
+
+    @Override
+    public ResponseEntity<TransactionBulkUpdateResponseDTO> recategorizeTransactions(
+            TransactionBulkRecategorizeRequestDTO requestDTO,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(transactionBulkService.recategorize(auth, requestDTO));
+    }
+
+    @Override
+    public ResponseEntity<TransactionBulkUpdateResponseDTO> deleteTransactions(
+            TransactionBulkDeleteRequestDTO requestDTO,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(transactionBulkService.delete(auth, requestDTO));
     }
 
     @Override
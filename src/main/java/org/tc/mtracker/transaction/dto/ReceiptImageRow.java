@@ -0,0 +1,8 @@
+package org.tc.mtracker.transaction.dto;
+
+import org.tc.mtracker.transaction.enums.ReceiptThumbnailStatus;
+
+import java.util.UUID;
+
+public record ReceiptImageRow(UUID id, String contentHash, ReceiptThumbnailStatus thumbnailStatus) {
+}
@@ -0,0 +1,19 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Presigned receipt upload URL")
+public record ReceiptUploadDTO(
+        @Schema(description = "Receipt ID to confirm when creating the transaction", example = "3f1c2a4e-9b7d-4c61-8e2f-0a5b6c7d8e9f")
+        UUID receiptId,
+
+        @Schema(description = "Presigned PUT URL. Send the file with the requested Content-Type and Content-Length.")
+        String uploadUrl,
+
+        @Schema(description = "Time after which the URL and the receipt ID can no longer be used", example = "2026-04-17T10:15:00")
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,17 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "Receipt file the client is about to upload")
+public record ReceiptUploadFileDTO(
+        @NotBlank
+        @Schema(description = "Content type of the file: image/jpeg, image/png, image/webp or application/pdf", example = "image/jpeg")
+        String contentType,
+
+        @Positive
+        @Schema(description = "Exact file size in bytes, at most 2 MB", example = "524288")
+        long size
+) {
+}
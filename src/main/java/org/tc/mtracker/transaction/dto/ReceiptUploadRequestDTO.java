@@ -0,0 +1,18 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Receipt files to generate upload URLs for")
+public record ReceiptUploadRequestDTO(
+        @Schema(description = "Receipt files, at most 10")
+        @NotEmpty
+        @Size(max = 10)
+        List<@NotNull @Valid ReceiptUploadFileDTO> files
+) {
+}
@@ -0,0 +1,18 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Presigned receipt download URL")
+public record ReceiptUrlDTO(
+        @Schema(description = "Receipt ID", example = "3f1c2a4e-9b7d-4c61-8e2f-0a5b6c7d8e9f")
+        UUID receiptId,
+
+        @Schema(description = "Presigned download URL")
+        String url,
+
+        @Schema(description = "Presigned download URL of a small WebP thumbnail, null while it is not available")
+        String thumbnailUrl
+) {
+}
@@ -0,0 +1,18 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Receipts to generate download URLs for")
+public record ReceiptUrlsRequestDTO(
+        @Schema(description = "Receipt IDs, at most 200", example = "[\"3f1c2a4e-9b7d-4c61-8e2f-0a5b6c7d8e9f\"]")
+        @NotEmpty
+        @Size(max = 200)
+        List<@NotNull UUID> receiptIds
+) {
+}
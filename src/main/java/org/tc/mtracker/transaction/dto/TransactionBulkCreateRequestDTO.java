@@ -0,0 +1,18 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Batch of one-time transactions created atomically")
+public record TransactionBulkCreateRequestDTO(
+        @Schema(description = "Transactions to create, at most 1000")
+        @NotEmpty
+        @Size(max = 1000)
+        List<@Valid @NotNull TransactionCreateRequestDTO> transactions
+) {
+}
@@ -0,0 +1,15 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Result of a bulk transaction create")
+public record TransactionBulkCreateResponseDTO(
+        @Schema(description = "Number of created transactions", example = "2")
+        int createdCount,
+
+        @Schema(description = "IDs of created transactions in request order", example = "[101, 102]")
+        List<Long> transactionIds
+) {
+}
@@ -0,0 +1,14 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Deletes every transaction matching the filter")
+public record TransactionBulkDeleteRequestDTO(
+        @NotNull
+        @Valid
+        @Schema(description = "Transactions to delete")
+        TransactionBulkFilterDTO filter
+) {
+}
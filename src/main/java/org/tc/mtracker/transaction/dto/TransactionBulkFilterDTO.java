@@ -0,0 +1,25 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.time.LocalDate;
+
+@Schema(description = "Selects the authenticated user's transactions for a bulk operation. At least one criterion is required.")
+public record TransactionBulkFilterDTO(
+        @Schema(description = "Account ID", example = "1")
+        Long accountId,
+
+        @Schema(description = "Category ID", example = "4")
+        Long categoryId,
+
+        @Schema(description = "Transaction type", example = "EXPENSE")
+        TransactionType type,
+
+        @Schema(description = "Inclusive start date", example = "2026-04-01")
+        LocalDate dateFrom,
+
+        @Schema(description = "Inclusive end date", example = "2026-04-30")
+        LocalDate dateTo
+) {
+}
@@ -0,0 +1,18 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Moves every transaction matching the filter to another category")
+public record TransactionBulkRecategorizeRequestDTO(
+        @NotNull
+        @Valid
+        @Schema(description = "Transactions to move")
+        TransactionBulkFilterDTO filter,
+
+        @NotNull
+        @Schema(description = "Active category the transactions are moved to. Only transactions of its type are moved.", example = "7")
+        Long targetCategoryId
+) {
+}
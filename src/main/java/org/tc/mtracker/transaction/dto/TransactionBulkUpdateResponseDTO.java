@@ -0,0 +1,10 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a bulk transaction update")
+public record TransactionBulkUpdateResponseDTO(
+        @Schema(description = "Number of changed transactions", example = "42")
+        int affectedCount
+) {
+}
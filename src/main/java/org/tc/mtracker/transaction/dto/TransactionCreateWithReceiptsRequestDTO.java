@@ -0,0 +1,22 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Create a one-time transaction with receipts that were uploaded directly to storage")
+public record TransactionCreateWithReceiptsRequestDTO(
+        @NotNull
+        @Valid
+        @Schema(description = "Transaction to create")
+        TransactionCreateRequestDTO transaction,
+
+        @Size(max = 10)
+        @Schema(description = "Receipt IDs returned by Create receipt upload URLs, at most 10", example = "[\"3f1c2a4e-9b7d-4c61-8e2f-0a5b6c7d8e9f\"]")
+        List<@NotNull UUID> receiptIds
+) {
+}
@@ -0,0 +1,20 @@
+package org.tc.mtracker.transaction.dto;
+
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record TransactionExportRow(
+        Long id,
+        LocalDate date,
+        TransactionType type,
+        BigDecimal amount,
+        Long accountId,
+        Long categoryId,
+        String categoryName,
+        String description,
+        LocalDateTime createdAt
+) {
+}
@@ -7,6 +7,7 @@ import org.tc.mtracker.transaction.Transaction;
 import org.tc.mtracker.user.User;
 
 import java.util.List;
+import java.util.UUID;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING,
         uses = {CategoryMapper.class, CategoryService.class},
@@ -39,4 +40,7 @@ public interface TransactionMapper {
 
     @Mapping(target = "accountId", source = "transaction.account.id")
     TransactionResponseDTO toDto(Transaction transaction, List<String> receiptsUrls);
+
+    @Mapping(target = "accountId", source = "transaction.account.id")
+    TransactionListItemDTO toListItemDto(Transaction transaction, List<UUID> receiptIds);
 }
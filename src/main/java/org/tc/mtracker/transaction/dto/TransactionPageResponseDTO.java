@@ -0,0 +1,16 @@
+package org.tc.mtracker.transaction.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of transactions ordered from newest to oldest")
+public record TransactionPageResponseDTO(
+        @Schema(description = "Transactions on this page")
+        List<TransactionResponseDTO> items,
+
+        @Schema(description = "Opaque cursor for the next page. Absent when this is the last page.",
+                example = "MjAyNi0wNC0xMHwyMDI2LTA0LTEwVDEwOjE1OjAwfDQy")
+        String nextCursor
+) {
+}
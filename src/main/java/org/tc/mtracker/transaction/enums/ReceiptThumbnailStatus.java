@@ -0,0 +1,8 @@
+package org.tc.mtracker.transaction.enums;
+
+public enum ReceiptThumbnailStatus {
+    PENDING,
+    READY,
+    UNSUPPORTED,
+    FAILED
+}
@@ -0,0 +1,164 @@
+package org.tc.mtracker.transaction.imports;
+
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+final class CsvStatementReader implements StatementReader {
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final BufferedReader reader;
+    private int lineNumber;
+    private int nextLineNumber = 1;
+    private boolean headerRead;
+    private int dateColumn = -1;
+    private int amountColumn = -1;
+    private int typeColumn = -1;
+    private int descriptionColumn = -1;
+
+    CsvStatementReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        if (!headerRead) {
+            readHeader();
+        }
+
+        List<String> record;
+        while ((record = readRecord()) != null) {
+            if (!isBlank(record)) {
+                return toStatementLine(record);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        headerRead = true;
+        List<String> columns;
+        do {
+            columns = readRecord();
+        } while (columns != null && isBlank(columns));
+
+        if (columns == null) {
+            return;
+        }
+
+        if (columns.getFirst().startsWith(BYTE_ORDER_MARK)) {
+            columns.set(0, columns.getFirst().substring(1));
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "date" -> dateColumn = i;
+                case "amount" -> amountColumn = i;
+                case "type" -> typeColumn = i;
+                case "description" -> descriptionColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (dateColumn < 0 || amountColumn < 0) {
+            throw new IllegalStateException("CSV header must contain date and amount columns");
+        }
+    }
+
+    private StatementLine toStatementLine(List<String> fields) {
+        try {
+            LocalDate date = LocalDate.parse(field(fields, dateColumn).trim());
+            BigDecimal amount = new BigDecimal(field(fields, amountColumn).trim());
+            if (typeColumn >= 0) {
+                TransactionType type = TransactionType.valueOf(field(fields, typeColumn).trim().toUpperCase(Locale.ROOT));
+                amount = type == TransactionType.EXPENSE ? amount.abs().negate() : amount.abs();
+            }
+            return new StatementLine(date, amount, descriptionColumn >= 0 ? description(field(fields, descriptionColumn)) : null);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new StatementParseException("Line %d: %s".formatted(lineNumber, e.getMessage()));
+        }
+    }
+
+    private String field(List<String> fields, int column) {
+        if (column >= fields.size()) {
+            throw new StatementParseException("Line %d: expected at least %d columns".formatted(lineNumber, column + 1));
+        }
+        return fields.get(column);
+    }
+
+    private static String description(String value) {
+        if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+            return value.substring(1);
+        }
+        return value.isBlank() ? null : value;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+
+        lineNumber = nextLineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (; c >= 0; c = reader.read()) {
+            if (quoted) {
+                if (c != '"') {
+                    if (c == '\n') {
+                        nextLineNumber++;
+                    }
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    reader.read();
+                    field.append('"');
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    reader.read();
+                }
+                nextLineNumber++;
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+        fields.add(field.toString());
+
+        if (quoted) {
+            throw new StatementParseException("Line %d: quoted field is not terminated".formatted(lineNumber));
+        }
+        return fields;
+    }
+
+    private int peek() throws IOException {
+        reader.mark(1);
+        int c = reader.read();
+        reader.reset();
+        return c;
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.size() == 1 && record.getFirst().isBlank();
+    }
+}
@@ -0,0 +1,41 @@
+package org.tc.mtracker.transaction.imports;
+
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.util.List;
+import java.util.Locale;
+
+public final class ImportCategoryMatcher {
+
+    private final List<CompiledRule> rules;
+    private final Long incomeCategoryId;
+    private final Long expenseCategoryId;
+
+    public ImportCategoryMatcher(List<ImportRule> rules, Category incomeCategory, Category expenseCategory) {
+        this.rules = rules.stream()
+                .map(rule -> new CompiledRule(
+                        rule.getPattern().toLowerCase(Locale.ROOT),
+                        rule.getCategory().getId(),
+                        rule.getCategory().getType()
+                ))
+                .toList();
+        this.incomeCategoryId = incomeCategory != null ? incomeCategory.getId() : null;
+        this.expenseCategoryId = expenseCategory != null ? expenseCategory.getId() : null;
+    }
+
+    public Long match(String description, TransactionType type) {
+        if (description != null) {
+            String normalized = description.toLowerCase(Locale.ROOT);
+            for (CompiledRule rule : rules) {
+                if (rule.type() == type && normalized.contains(rule.pattern())) {
+                    return rule.categoryId();
+                }
+            }
+        }
+        return type == TransactionType.INCOME ? incomeCategoryId : expenseCategoryId;
+    }
+
+    private record CompiledRule(String pattern, Long categoryId, TransactionType type) {
+    }
+}
@@ -0,0 +1,9 @@
+package org.tc.mtracker.transaction.imports;
+
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+
+public record ImportJobPlan(
+        StatementFormat format,
+        ImportCategoryMatcher categoryMatcher
+) {
+}
@@ -0,0 +1,40 @@
+package org.tc.mtracker.transaction.imports;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.tc.mtracker.transaction.imports.enums.ImportJobStatus;
+import org.tc.mtracker.user.User;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    Optional<ImportJob> findByIdAndUser(Long id, User user);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ImportJob j WHERE j.id = :id")
+    Optional<ImportJob> findForUpdateById(Long id);
+
+    @Modifying
+    @Query("""
+            UPDATE ImportJob j
+            SET j.leaseExpiresAt = :leaseExpiresAt, j.updatedAt = :now
+            WHERE j.owner = :owner
+            AND j.status IN :statuses
+            """)
+    int renewLeases(String owner, Collection<ImportJobStatus> statuses, LocalDateTime leaseExpiresAt, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE ImportJob j
+            SET j.status = :failedStatus, j.lastError = :error, j.finishedAt = :now, j.updatedAt = :now
+            WHERE j.status IN :statuses
+            AND j.leaseExpiresAt < :now
+            """)
+    int failExpiredLeases(Collection<ImportJobStatus> statuses, ImportJobStatus failedStatus, String error, LocalDateTime now);
+}
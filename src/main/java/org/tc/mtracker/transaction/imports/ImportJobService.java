@@ -0,0 +1,160 @@
+package org.tc.mtracker.transaction.imports;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.category.CategoryRepository;
+import org.tc.mtracker.transaction.Transaction;
+import org.tc.mtracker.transaction.TransactionService;
+import org.tc.mtracker.transaction.imports.enums.ImportJobStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String INTERRUPTED_ERROR = "Import was interrupted because its worker stopped renewing the lease.";
+    private static final List<ImportJobStatus> UNFINISHED_STATUSES = List.of(ImportJobStatus.PENDING, ImportJobStatus.RUNNING);
+
+    private final ImportJobRepository importJobRepository;
+    private final CategoryRepository categoryRepository;
+    private final ImportRuleService importRuleService;
+    private final TransactionService transactionService;
+    private final Clock clock;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${app.imports.lease.duration}")
+    private Duration leaseDuration;
+
+    @Transactional
+    public ImportJob create(ImportJob job) {
+        job.setOwner(owner);
+        job.setLeaseExpiresAt(leaseExpiry());
+        return importJobRepository.save(job);
+    }
+
+    @Transactional
+    public ImportJobPlan start(Long jobId) {
+        ImportJob job = findOwnedJob(jobId, ImportJobStatus.PENDING);
+        job.setStatus(ImportJobStatus.RUNNING);
+        log.info("Statement import started importJobId={} userId={} format={}", jobId, job.getUser().getId(), job.getFormat());
+        return new ImportJobPlan(
+                job.getFormat(),
+                importRuleService.categoryMatcher(job.getUser(), job.getIncomeCategory(), job.getExpenseCategory())
+        );
+    }
+
+    @Transactional
+    public void importChunk(Long jobId, List<ImportedTransaction> rows, int skippedRows, int failedRows, String lastError) {
+        ImportJob job = findOwnedJob(jobId, ImportJobStatus.RUNNING);
+        writeChunk(job, rows, skippedRows, failedRows, lastError);
+    }
+
+    @Transactional
+    public void complete(Long jobId, List<ImportedTransaction> rows, int skippedRows, int failedRows, String lastError) {
+        ImportJob job = findOwnedJob(jobId, ImportJobStatus.RUNNING);
+        writeChunk(job, rows, skippedRows, failedRows, lastError);
+        job.setStatus(ImportJobStatus.COMPLETED);
+        job.setLeaseExpiresAt(null);
+        job.setFinishedAt(LocalDateTime.now(clock));
+        log.info("Statement import completed importJobId={} userId={} processedRows={} importedRows={} skippedRows={} failedRows={}",
+                jobId, job.getUser().getId(), job.getProcessedRows(), job.getImportedRows(), job.getSkippedRows(), job.getFailedRows());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(Long jobId, String error) {
+        importJobRepository.findForUpdateById(jobId)
+                .filter(job -> owner.equals(job.getOwner()) && UNFINISHED_STATUSES.contains(job.getStatus()))
+                .ifPresent(job -> {
+                    job.setStatus(ImportJobStatus.FAILED);
+                    job.setLeaseExpiresAt(null);
+                    job.setLastError(truncate(error));
+                    job.setFinishedAt(LocalDateTime.now(clock));
+                    log.warn("Statement import failed importJobId={} processedRows={} importedRows={} error={}",
+                            jobId, job.getProcessedRows(), job.getImportedRows(), error);
+                });
+    }
+
+    @Transactional
+    public int renewLeases() {
+        return importJobRepository.renewLeases(owner, UNFINISHED_STATUSES, leaseExpiry(), LocalDateTime.now(clock));
+    }
+
+    @Transactional
+    public int failExpired() {
+        int failed = importJobRepository.failExpiredLeases(
+                UNFINISHED_STATUSES,
+                ImportJobStatus.FAILED,
+                INTERRUPTED_ERROR,
+                LocalDateTime.now(clock)
+        );
+        if (failed > 0) {
+            log.warn("Statement imports with expired leases marked as failed count={}", failed);
+        }
+        return failed;
+    }
+
+    private void writeChunk(ImportJob job, List<ImportedTransaction> rows, int skippedRows, int failedRows, String lastError) {
+        if (!rows.isEmpty()) {
+            Map<Long, Category> categories = new HashMap<>();
+            List<Transaction> transactions = new ArrayList<>(rows.size());
+            for (ImportedTransaction row : rows) {
+                transactions.add(Transaction.builder()
+                        .user(job.getUser())
+                        .account(job.getAccount())
+                        .category(categories.computeIfAbsent(row.categoryId(), categoryRepository::getReferenceById))
+                        .type(row.type())
+                        .amount(row.amount())
+                        .date(row.date())
+                        .description(row.description())
+                        .build());
+            }
+            transactionService.importTransactions(job.getUser(), transactions);
+        }
+
+        job.setProcessedRows(job.getProcessedRows() + rows.size() + skippedRows + failedRows);
+        job.setImportedRows(job.getImportedRows() + rows.size());
+        job.setSkippedRows(job.getSkippedRows() + skippedRows);
+        job.setFailedRows(job.getFailedRows() + failedRows);
+        if (lastError != null) {
+            job.setLastError(truncate(lastError));
+        }
+    }
+
+    private ImportJob findOwnedJob(Long jobId, ImportJobStatus expectedStatus) {
+        ImportJob job = importJobRepository.findForUpdateById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Import job %d not found".formatted(jobId)));
+        if (!owner.equals(job.getOwner()) || job.getStatus() != expectedStatus) {
+            throw new IllegalStateException("Import job %d lease was lost status=%s owner=%s"
+                    .formatted(jobId, job.getStatus(), job.getOwner()));
+        }
+        job.setLeaseExpiresAt(leaseExpiry());
+        return job;
+    }
+
+    private LocalDateTime leaseExpiry() {
+        return LocalDateTime.now(clock).plus(leaseDuration);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
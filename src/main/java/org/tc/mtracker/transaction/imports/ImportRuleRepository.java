@@ -0,0 +1,16 @@
+package org.tc.mtracker.transaction.imports;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.tc.mtracker.user.User;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ImportRuleRepository extends JpaRepository<ImportRule, Long> {
+
+    @EntityGraph(attributePaths = "category")
+    List<ImportRule> findAllByUserOrderByPriorityAscIdAsc(User user);
+
+    Optional<ImportRule> findByIdAndUser(Long id, User user);
+}
@@ -0,0 +1,71 @@
+package org.tc.mtracker.transaction.imports;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.category.enums.CategoryStatus;
+import org.tc.mtracker.transaction.TransactionValidationService;
+import org.tc.mtracker.transaction.imports.dto.ImportRuleCreateRequestDTO;
+import org.tc.mtracker.transaction.imports.dto.ImportRuleResponseDTO;
+import org.tc.mtracker.transaction.imports.dto.StatementImportMapper;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserService;
+import org.tc.mtracker.utils.exceptions.ImportRuleNotFoundException;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportRuleService {
+
+    private final ImportRuleRepository importRuleRepository;
+    private final StatementImportMapper statementImportMapper;
+    private final UserService userService;
+    private final TransactionValidationService transactionValidationService;
+
+    @Transactional(readOnly = true)
+    public List<ImportRuleResponseDTO> getRules(Authentication auth) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        return statementImportMapper.toRuleDtos(importRuleRepository.findAllByUserOrderByPriorityAscIdAsc(user));
+    }
+
+    @Transactional
+    public ImportRuleResponseDTO createRule(Authentication auth, ImportRuleCreateRequestDTO requestDTO) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        Category category = transactionValidationService.resolveActiveCategory(requestDTO.categoryId(), user);
+
+        ImportRule saved = importRuleRepository.save(ImportRule.builder()
+                .user(user)
+                .pattern(requestDTO.pattern().trim())
+                .category(category)
+                .priority(requestDTO.priority() != null ? requestDTO.priority() : 0)
+                .build());
+        log.info("Import rule created userId={} importRuleId={} categoryId={} priority={}",
+                user.getId(), saved.getId(), category.getId(), saved.getPriority());
+        return statementImportMapper.toDto(saved);
+    }
+
+    @Transactional
+    public void deleteRule(Long importRuleId, Authentication auth) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        ImportRule rule = importRuleRepository.findByIdAndUser(importRuleId, user)
+                .orElseThrow(() -> {
+                    log.warn("Import rule not found userId={} importRuleId={}", user.getId(), importRuleId);
+                    return new ImportRuleNotFoundException("Import rule with id %d not found".formatted(importRuleId));
+                });
+        importRuleRepository.delete(rule);
+        log.info("Import rule deleted userId={} importRuleId={}", user.getId(), importRuleId);
+    }
+
+    @Transactional(readOnly = true)
+    public ImportCategoryMatcher categoryMatcher(User user, Category incomeCategory, Category expenseCategory) {
+        List<ImportRule> activeRules = importRuleRepository.findAllByUserOrderByPriorityAscIdAsc(user).stream()
+                .filter(rule -> rule.getCategory().getStatus() == CategoryStatus.ACTIVE)
+                .toList();
+        return new ImportCategoryMatcher(activeRules, incomeCategory, expenseCategory);
+    }
+}
@@ -0,0 +1,15 @@
+package org.tc.mtracker.transaction.imports;
+
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ImportedTransaction(
+        LocalDate date,
+        BigDecimal amount,
+        TransactionType type,
+        String description,
+        Long categoryId
+) {
+}
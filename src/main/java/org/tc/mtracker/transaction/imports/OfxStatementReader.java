@@ -0,0 +1,98 @@
+package org.tc.mtracker.transaction.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+final class OfxStatementReader implements StatementReader {
+
+    private static final String TRANSACTION_TAG = "STMTTRN";
+
+    private final PushbackReader reader;
+    private int transactionNumber;
+
+    OfxStatementReader(BufferedReader reader) {
+        this.reader = new PushbackReader(reader);
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        Map<String, String> fields = null;
+        String tag;
+        while ((tag = readTag()) != null) {
+            if (tag.equals(TRANSACTION_TAG)) {
+                fields = new HashMap<>();
+            } else if (tag.equals("/" + TRANSACTION_TAG) && fields != null) {
+                transactionNumber++;
+                return toStatementLine(fields);
+            } else if (fields != null && !tag.startsWith("/")) {
+                fields.put(tag, readValue());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readTag() throws IOException {
+        int c = reader.read();
+        while (c != -1 && c != '<') {
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        return tag.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private String readValue() throws IOException {
+        StringBuilder value = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            value.append((char) c);
+        }
+        if (c == '<') {
+            reader.unread(c);
+        }
+        return value.toString().trim()
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private StatementLine toStatementLine(Map<String, String> fields) {
+        String postedAt = fields.get("DTPOSTED");
+        String amount = fields.get("TRNAMT");
+        if (postedAt == null || postedAt.length() < 8 || amount == null) {
+            throw new StatementParseException("Transaction %d: DTPOSTED and TRNAMT are required".formatted(transactionNumber));
+        }
+
+        try {
+            String description = fields.containsKey("NAME") ? fields.get("NAME") : fields.get("MEMO");
+            return new StatementLine(
+                    LocalDate.parse(postedAt.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE),
+                    new BigDecimal(amount.replace(',', '.')),
+                    description == null || description.isBlank() ? null : description
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new StatementParseException("Transaction %d: %s".formatted(transactionNumber, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.tc.mtracker.transaction.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+final class QifStatementReader implements StatementReader {
+
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    QifStatementReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementLine next() throws IOException {
+        String date = null;
+        String amount = null;
+        String payee = null;
+        String memo = null;
+        boolean pending = false;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("!")) {
+                continue;
+            }
+
+            String value = line.substring(1).trim();
+            switch (line.charAt(0)) {
+                case 'D' -> date = value;
+                case 'T', 'U' -> amount = value;
+                case 'P' -> payee = value;
+                case 'M' -> memo = value;
+                case '^' -> {
+                    return toStatementLine(date, amount, payee != null ? payee : memo);
+                }
+                default -> {
+                }
+            }
+            pending = true;
+        }
+        return pending ? toStatementLine(date, amount, payee != null ? payee : memo) : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private StatementLine toStatementLine(String date, String amount, String description) {
+        if (date == null || amount == null) {
+            throw new StatementParseException("Line %d: D and T fields are required".formatted(lineNumber));
+        }
+
+        try {
+            return new StatementLine(
+                    parseDate(date),
+                    new BigDecimal(amount.replace(",", "")),
+                    description == null || description.isBlank() ? null : description
+            );
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new StatementParseException("Line %d: %s".formatted(lineNumber, e.getMessage()));
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        String normalized = value.replace(" ", "");
+        if (normalized.contains("-")) {
+            return LocalDate.parse(normalized);
+        }
+
+        String[] parts = normalized.replace('\'', '/').split("/");
+        if (parts.length != 3) {
+            throw new DateTimeException("Unsupported QIF date " + value);
+        }
+        int year = Integer.parseInt(parts[2]);
+        return LocalDate.of(year < 100 ? 2000 + year : year, Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+    }
+}
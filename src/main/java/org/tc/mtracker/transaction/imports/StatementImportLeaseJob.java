@@ -0,0 +1,18 @@
+package org.tc.mtracker.transaction.imports;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class StatementImportLeaseJob {
+
+    private final ImportJobService importJobService;
+
+    @Scheduled(cron = "${app.imports.lease.cron}")
+    public void maintainLeases() {
+        importJobService.renewLeases();
+        importJobService.failExpired();
+    }
+}
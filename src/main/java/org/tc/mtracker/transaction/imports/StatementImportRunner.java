@@ -0,0 +1,172 @@
+package org.tc.mtracker.transaction.imports;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.tc.mtracker.common.enums.TransactionType;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatementImportRunner {
+
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("999999999999.99");
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final ImportJobService importJobService;
+    private final Clock clock;
+
+    @Value("${app.imports.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.imports.max-concurrent-jobs}")
+    private int maxConcurrentJobs;
+
+    @Value("${app.imports.queue-capacity}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startExecutor() {
+        executor = new ThreadPoolExecutor(
+                maxConcurrentJobs,
+                maxConcurrentJobs,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("statement-import-")
+        );
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdown();
+    }
+
+    public boolean hasCapacity() {
+        return executor.getQueue().remainingCapacity() > 0;
+    }
+
+    public void submit(Long jobId, Path statementFile) {
+        try {
+            executor.execute(() -> run(jobId, statementFile));
+        } catch (RejectedExecutionException e) {
+            importJobService.fail(jobId, "Import queue is full.");
+            deleteQuietly(statementFile);
+        }
+    }
+
+    private void run(Long jobId, Path statementFile) {
+        try {
+            ImportJobPlan plan = importJobService.start(jobId);
+            LocalDate today = LocalDate.now(clock);
+            List<ImportedTransaction> chunk = new ArrayList<>(chunkSize);
+            int rowNumber = 0;
+            int skippedRows = 0;
+            int failedRows = 0;
+            String lastError = null;
+
+            try (StatementReader reader = StatementReader.open(plan.format(),
+                    new InputStreamReader(Files.newInputStream(statementFile), StandardCharsets.UTF_8))) {
+                while (true) {
+                    StatementLine line;
+                    try {
+                        line = reader.next();
+                        if (line == null) {
+                            break;
+                        }
+                        rowNumber++;
+                        ImportedTransaction row = toImportedTransaction(line, plan.categoryMatcher(), today, rowNumber);
+                        if (row == null) {
+                            skippedRows++;
+                        } else {
+                            chunk.add(row);
+                        }
+                    } catch (StatementParseException e) {
+                        failedRows++;
+                        lastError = e.getMessage();
+                    }
+
+                    if (chunk.size() + skippedRows + failedRows >= chunkSize) {
+                        importJobService.importChunk(jobId, chunk, skippedRows, failedRows, lastError);
+                        chunk = new ArrayList<>(chunkSize);
+                        skippedRows = 0;
+                        failedRows = 0;
+                        lastError = null;
+                    }
+                }
+            }
+            importJobService.complete(jobId, chunk, skippedRows, failedRows, lastError);
+        } catch (Exception e) {
+            log.error("Statement import aborted importJobId={}", jobId, e);
+            importJobService.fail(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            deleteQuietly(statementFile);
+        }
+    }
+
+    private static ImportedTransaction toImportedTransaction(
+            StatementLine line,
+            ImportCategoryMatcher categoryMatcher,
+            LocalDate today,
+            int rowNumber
+    ) {
+        if (line.date().isAfter(today)) {
+            throw new StatementParseException("Row %d: date %s is in the future".formatted(rowNumber, line.date()));
+        }
+        if (line.amount().signum() == 0) {
+            return null;
+        }
+
+        BigDecimal amount;
+        try {
+            amount = line.amount().abs().setScale(2, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new StatementParseException("Row %d: amount %s has more than two decimal places".formatted(rowNumber, line.amount()));
+        }
+        if (amount.compareTo(MAX_AMOUNT) > 0) {
+            throw new StatementParseException("Row %d: amount %s is too large".formatted(rowNumber, line.amount()));
+        }
+
+        TransactionType type = line.amount().signum() > 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+        Long categoryId = categoryMatcher.match(line.description(), type);
+        if (categoryId == null) {
+            return null;
+        }
+
+        String description = line.description();
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            description = description.substring(0, MAX_DESCRIPTION_LENGTH);
+        }
+        return new ImportedTransaction(line.date(), amount, type, description, categoryId);
+    }
+
+    private static void deleteQuietly(Path statementFile) {
+        try {
+            Files.deleteIfExists(statementFile);
+        } catch (IOException e) {
+            log.warn("Statement upload could not be deleted path={}", statementFile, e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.tc.mtracker.transaction.imports;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+import org.tc.mtracker.account.Account;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.transaction.TransactionValidationService;
+import org.tc.mtracker.transaction.imports.dto.ImportJobResponseDTO;
+import org.tc.mtracker.transaction.imports.dto.StatementImportMapper;
+import org.tc.mtracker.transaction.imports.enums.ImportJobStatus;
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserService;
+import org.tc.mtracker.utils.exceptions.ImportCapacityExceededException;
+import org.tc.mtracker.utils.exceptions.ImportJobNotFoundException;
+import org.tc.mtracker.utils.exceptions.InvalidStatementFileException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatementImportService {
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobService importJobService;
+    private final StatementImportMapper statementImportMapper;
+    private final StatementImportRunner statementImportRunner;
+    private final UserService userService;
+    private final TransactionValidationService transactionValidationService;
+
+    @Transactional
+    public ImportJobResponseDTO startImport(
+            Authentication auth,
+            MultipartFile statement,
+            StatementFormat format,
+            Long accountId,
+            Long incomeCategoryId,
+            Long expenseCategoryId
+    ) {
+        if (statement == null || statement.isEmpty()) {
+            throw new InvalidStatementFileException("Statement file is empty.");
+        }
+        if (!statementImportRunner.hasCapacity()) {
+            throw new ImportCapacityExceededException("Too many statement imports are queued. Try again later.");
+        }
+
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        Account account = transactionValidationService.resolveAccount(user, accountId);
+        Category incomeCategory = resolveFallbackCategory(incomeCategoryId, TransactionType.INCOME, user);
+        Category expenseCategory = resolveFallbackCategory(expenseCategoryId, TransactionType.EXPENSE, user);
+
+        Path statementFile = storeUpload(statement);
+        ImportJob job = importJobService.create(ImportJob.builder()
+                .user(user)
+                .account(account)
+                .format(format)
+                .status(ImportJobStatus.PENDING)
+                .incomeCategory(incomeCategory)
+                .expenseCategory(expenseCategory)
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    statementImportRunner.submit(job.getId(), statementFile);
+                } else {
+                    deleteUpload(statementFile);
+                }
+            }
+        });
+
+        log.info("Statement import queued userId={} importJobId={} accountId={} format={} size={}",
+                user.getId(), job.getId(), account.getId(), format, statement.getSize());
+        return statementImportMapper.toDto(job);
+    }
+
+    @Transactional(readOnly = true)
+    public ImportJobResponseDTO getImportJob(Long importJobId, Authentication auth) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        return importJobRepository.findByIdAndUser(importJobId, user)
+                .map(statementImportMapper::toDto)
+                .orElseThrow(() -> {
+                    log.warn("Import job not found userId={} importJobId={}", user.getId(), importJobId);
+                    return new ImportJobNotFoundException("Import job with id %d not found".formatted(importJobId));
+                });
+    }
+
+    private Category resolveFallbackCategory(Long categoryId, TransactionType type, User user) {
+        if (categoryId == null) {
+            return null;
+        }
+        Category category = transactionValidationService.resolveActiveCategory(categoryId, user);
+        transactionValidationService.validateTransactionType(type, category, user);
+        return category;
+    }
+
+    private static Path storeUpload(MultipartFile statement) {
+        try {
+            Path statementFile = Files.createTempFile("statement-import-", ".tmp");
+            statement.transferTo(statementFile);
+            return statementFile;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Statement upload could not be stored", e);
+        }
+    }
+
+    private static void deleteUpload(Path statementFile) {
+        try {
+            Files.deleteIfExists(statementFile);
+        } catch (IOException e) {
+            log.warn("Statement upload could not be deleted path={}", statementFile, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.tc.mtracker.transaction.imports;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record StatementLine(
+        LocalDate date,
+        BigDecimal amount,
+        String description
+) {
+}
@@ -0,0 +1,7 @@
+package org.tc.mtracker.transaction.imports;
+
+public class StatementParseException extends RuntimeException {
+    public StatementParseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package org.tc.mtracker.transaction.imports;
+
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+public interface StatementReader extends Closeable {
+
+    StatementLine next() throws IOException;
+
+    static StatementReader open(StatementFormat format, Reader reader) {
+        BufferedReader bufferedReader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        return switch (format) {
+            case CSV -> new CsvStatementReader(bufferedReader);
+            case OFX -> new OfxStatementReader(bufferedReader);
+            case QIF -> new QifStatementReader(bufferedReader);
+        };
+    }
+}
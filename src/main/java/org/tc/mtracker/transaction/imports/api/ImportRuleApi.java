@@ -0,0 +1,80 @@
+package org.tc.mtracker.transaction.imports.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.tc.mtracker.transaction.imports.dto.ImportRuleCreateRequestDTO;
+import org.tc.mtracker.transaction.imports.dto.ImportRuleResponseDTO;
+
+import java.util.List;
+
+@RequestMapping("/api/v1/import-rules")
+@Tag(name = "Transaction Import", description = "Bank statement import endpoints")
+public interface ImportRuleApi {
+
+    @Operation(
+            summary = "Get import rules",
+            description = "Returns the authenticated user's statement import rules in the order they are checked."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Import rules returned",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = ImportRuleResponseDTO.class))
+            )
+    )
+    @GetMapping
+    ResponseEntity<List<ImportRuleResponseDTO>> getImportRules(
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Create import rule",
+            description = "Creates a rule that assigns an active category to imported rows whose description contains the pattern."
+    )
+    @ApiResponse(
+            responseCode = "201",
+            description = "Import rule created",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ImportRuleResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input data or inactive category",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping
+    ResponseEntity<ImportRuleResponseDTO> createImportRule(
+            @Valid @RequestBody ImportRuleCreateRequestDTO requestDTO,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Delete import rule",
+            description = "Deletes an import rule owned by the authenticated user."
+    )
+    @ApiResponse(responseCode = "204", description = "Import rule deleted")
+    @ApiResponse(
+            responseCode = "404",
+            description = "Import rule not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @DeleteMapping("/{importRuleId}")
+    ResponseEntity<Void> deleteImportRule(
+            @PathVariable Long importRuleId,
+            @Parameter(hidden = true) Authentication auth
+    );
+}
@@ -0,0 +1,35 @@
+package org.tc.mtracker.transaction.imports.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.RestController;
+import org.tc.mtracker.transaction.imports.ImportRuleService;
+import org.tc.mtracker.transaction.imports.dto.ImportRuleCreateRequestDTO;
+import org.tc.mtracker.transaction.imports.dto.ImportRuleResponseDTO;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ImportRuleController implements ImportRuleApi {
+
+    private final ImportRuleService importRuleService;
+
+    @Override
+    public ResponseEntity<List<ImportRuleResponseDTO>> getImportRules(Authentication auth) {
+        return ResponseEntity.ok(importRuleService.getRules(auth));
+    }
+
+    @Override
+    public ResponseEntity<ImportRuleResponseDTO> createImportRule(ImportRuleCreateRequestDTO requestDTO, Authentication auth) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(importRuleService.createRule(auth, requestDTO));
+    }
+
+    @Override
+    public ResponseEntity<Void> deleteImportRule(Long importRuleId, Authentication auth) {
+        importRuleService.deleteRule(importRuleId, auth);
+        return ResponseEntity.noContent().build();
+    }
+}
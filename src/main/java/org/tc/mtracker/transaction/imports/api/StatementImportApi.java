@@ -0,0 +1,79 @@
+package org.tc.mtracker.transaction.imports.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.tc.mtracker.transaction.imports.dto.ImportJobResponseDTO;
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+
+@RequestMapping("/api/v1/transactions/imports")
+@Tag(name = "Transaction Import", description = "Bank statement import endpoints")
+public interface StatementImportApi {
+
+    @Operation(
+            summary = "Import bank statement",
+            description = "Queues a CSV, OFX or QIF statement for import and returns the import job. Rows are read one at a time and written in chunks, each chunk in its own database transaction. Positive amounts become income and negative amounts become expenses. A row gets the category of the first matching import rule, otherwise the fallback category for its type; rows without a category are skipped. CSV files need a header with date (yyyy-MM-dd) and amount columns and may contain type and description columns."
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "Import job queued",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ImportJobResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Empty file, or invalid account or fallback category",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @ApiResponse(
+            responseCode = "503",
+            description = "Too many imports are queued",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    ResponseEntity<ImportJobResponseDTO> importStatement(
+            @Parameter(description = "Statement file", content = @Content(schema = @Schema(type = "string", format = "binary")))
+            @RequestPart(name = "file") MultipartFile file,
+            @RequestParam(name = "format") StatementFormat format,
+            @Parameter(description = "Optional account ID. If omitted, the default account is used.")
+            @RequestParam(name = "accountId", required = false) Long accountId,
+            @Parameter(description = "Category for income rows that match no rule")
+            @RequestParam(name = "incomeCategoryId", required = false) Long incomeCategoryId,
+            @Parameter(description = "Category for expense rows that match no rule")
+            @RequestParam(name = "expenseCategoryId", required = false) Long expenseCategoryId,
+            @Parameter(hidden = true) Authentication auth
+    );
+
+    @Operation(
+            summary = "Get import job",
+            description = "Returns the progress of a statement import owned by the authenticated user. Counters are updated after every committed chunk."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Import job returned",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ImportJobResponseDTO.class))
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Import job not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping("/{importJobId}")
+    ResponseEntity<ImportJobResponseDTO> getImportJob(
+            @PathVariable Long importJobId,
+            @Parameter(hidden = true) Authentication auth
+    );
+}
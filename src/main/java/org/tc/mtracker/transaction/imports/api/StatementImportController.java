@@ -0,0 +1,36 @@
+package org.tc.mtracker.transaction.imports.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.tc.mtracker.transaction.imports.StatementImportService;
+import org.tc.mtracker.transaction.imports.dto.ImportJobResponseDTO;
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+
+@RestController
+@RequiredArgsConstructor
+public class StatementImportController implements StatementImportApi {
+
+    private final StatementImportService statementImportService;
+
+    @Override
+    public ResponseEntity<ImportJobResponseDTO> importStatement(
+            MultipartFile file,
+            StatementFormat format,
+            Long accountId,
+            Long incomeCategoryId,
+            Long expenseCategoryId,
+            Authentication auth
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(statementImportService.startImport(auth, file, format, accountId, incomeCategoryId, expenseCategoryId));
+    }
+
+    @Override
+    public ResponseEntity<ImportJobResponseDTO> getImportJob(Long importJobId, Authentication auth) {
+        return ResponseEntity.ok(statementImportService.getImportJob(importJobId, auth));
+    }
+}
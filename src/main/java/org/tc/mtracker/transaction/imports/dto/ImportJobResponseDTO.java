@@ -0,0 +1,44 @@
+package org.tc.mtracker.transaction.imports.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.tc.mtracker.transaction.imports.enums.ImportJobStatus;
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Statement import job progress")
+public record ImportJobResponseDTO(
+        @Schema(description = "Import job ID", example = "1")
+        Long id,
+
+        @Schema(description = "Account the transactions are imported into", example = "1")
+        Long accountId,
+
+        @Schema(description = "Statement file format", example = "CSV")
+        StatementFormat format,
+
+        @Schema(description = "Import job status", example = "RUNNING")
+        ImportJobStatus status,
+
+        @Schema(description = "Statement rows read so far", example = "2000")
+        int processedRows,
+
+        @Schema(description = "Transactions created so far", example = "1950")
+        int importedRows,
+
+        @Schema(description = "Rows without a matching category or with a zero amount", example = "40")
+        int skippedRows,
+
+        @Schema(description = "Rows that could not be parsed or are dated in the future", example = "10")
+        int failedRows,
+
+        @Schema(description = "Most recent row or job error", example = "Line 17: Text '2026-13-01' could not be parsed")
+        String lastError,
+
+        @Schema(description = "Creation timestamp")
+        LocalDateTime createdAt,
+
+        @Schema(description = "Completion timestamp, empty while the job is pending or running")
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,26 @@
+package org.tc.mtracker.transaction.imports.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.Length;
+
+@Schema(description = "Maps statement rows whose description contains the pattern to a category")
+public record ImportRuleCreateRequestDTO(
+        @NotBlank
+        @Length(max = 255)
+        @Schema(description = "Case-insensitive text the row description must contain", example = "coffee")
+        String pattern,
+
+        @NotNull
+        @Schema(description = "Category assigned to matching rows. Only rows of the category type match.", example = "4")
+        Long categoryId,
+
+        @Min(0)
+        @Max(10000)
+        @Schema(description = "Rules with a lower priority are checked first, defaults to 0", example = "10")
+        Integer priority
+) {
+}
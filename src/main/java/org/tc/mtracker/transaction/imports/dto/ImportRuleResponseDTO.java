@@ -0,0 +1,25 @@
+package org.tc.mtracker.transaction.imports.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.tc.mtracker.category.dto.CategoryResponseDTO;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Statement import category rule")
+public record ImportRuleResponseDTO(
+        @Schema(description = "Rule ID", example = "1")
+        Long id,
+
+        @Schema(description = "Case-insensitive text the row description must contain", example = "coffee")
+        String pattern,
+
+        @Schema(description = "Category assigned to matching rows")
+        CategoryResponseDTO category,
+
+        @Schema(description = "Rules with a lower priority are checked first", example = "10")
+        int priority,
+
+        @Schema(description = "Creation timestamp")
+        LocalDateTime createdAt
+) {
+}
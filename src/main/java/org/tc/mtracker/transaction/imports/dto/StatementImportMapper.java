@@ -0,0 +1,26 @@
+package org.tc.mtracker.transaction.imports.dto;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+import org.tc.mtracker.category.CategoryMapper;
+import org.tc.mtracker.transaction.imports.ImportJob;
+import org.tc.mtracker.transaction.imports.ImportRule;
+
+import java.util.List;
+
+@Mapper(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        uses = CategoryMapper.class,
+        unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface StatementImportMapper {
+
+    @Mapping(target = "accountId", source = "job.account.id")
+    ImportJobResponseDTO toDto(ImportJob job);
+
+    ImportRuleResponseDTO toDto(ImportRule rule);
+
+    List<ImportRuleResponseDTO> toRuleDtos(List<ImportRule> rules);
+}
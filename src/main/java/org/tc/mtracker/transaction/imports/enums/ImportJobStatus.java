@@ -0,0 +1,8 @@
+package org.tc.mtracker.transaction.imports.enums;
+
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
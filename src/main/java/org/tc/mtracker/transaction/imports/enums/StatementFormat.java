@@ -0,0 +1,7 @@
+package org.tc.mtracker.transaction.imports.enums;
+
+public enum StatementFormat {
+    CSV,
+    OFX,
+    QIF
+}
@@ -2,10 +2,11 @@ package org.tc.mtracker.transaction.recurring;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.tc.mtracker.category.enums.CategoryStatus;
-import org.tc.mtracker.transaction.TransactionService;
+import org.tc.mtracker.transaction.recurring.dto.DueRecurringTransactionRow;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -17,37 +18,40 @@ public class RecurringTransactionExecutionService {
 
     private final RecurringTransactionRepository recurringTransactionRepository;
     private final RecurringTransactionService recurringTransactionService;
-    private final TransactionService transactionService;
 
-    @Transactional
+    @Value("${app.recurring-transactions.execution.chunk-size}")
+    private int chunkSize;
+
     public void executeDueTransactions(LocalDate executionDate) {
-        List<RecurringTransaction> dueRecurringTransactions =
-                recurringTransactionRepository.findDueTransactions(executionDate, CategoryStatus.ACTIVE);
+        int executedTemplates = 0;
         int createdTransactions = 0;
-
-        for (RecurringTransaction recurringTransaction : dueRecurringTransactions) {
-            createdTransactions += executeRecurringTransaction(recurringTransaction, executionDate);
-        }
-
-        if (!dueRecurringTransactions.isEmpty()) {
-            log.info("Executed {} recurring transaction template(s) and created {} transaction(s) up to {}",
-                    dueRecurringTransactions.size(), createdTransactions, executionDate);
+        int failedTemplates = 0;
+        PageRequest page = PageRequest.of(0, chunkSize);
+        List<DueRecurringTransactionRow> due = recurringTransactionRepository.findFirstDue(
+                executionDate, CategoryStatus.ACTIVE, page);
+        while (!due.isEmpty()) {
+            for (DueRecurringTransactionRow row : due) {
+                Long recurringTransactionId = row.id();
+                try {
+                    createdTransactions += recurringTransactionService.executeDueTransaction(recurringTransactionId, executionDate);
+                    executedTemplates++;
+                } catch (RuntimeException e) {
+                    failedTemplates++;
+                    log.warn("Recurring transaction execution failed, retrying on next run recurringTransactionId={} executionDate={}",
+                            recurringTransactionId, executionDate, e);
+                }
+            }
+            if (due.size() < chunkSize) {
+                break;
+            }
+            DueRecurringTransactionRow last = due.getLast();
+            due = recurringTransactionRepository.findDueAfter(
+                    executionDate, CategoryStatus.ACTIVE, last.nextExecutionDate(), last.id(), page);
         }
-    }
 
-    private int executeRecurringTransaction(RecurringTransaction recurringTransaction, LocalDate executionDate) {
-        int createdTransactions = 0;
-        while (!recurringTransaction.getNextExecutionDate().isAfter(executionDate)) {
-            LocalDate transactionDate = recurringTransaction.getNextExecutionDate();
-            transactionService.createAutomatedTransaction(RecurringTransactionService.toTransaction(recurringTransaction, transactionDate));
-            recurringTransaction.setNextExecutionDate(
-                    recurringTransactionService.nextExecutionDateAfter(
-                            transactionDate,
-                            recurringTransaction.getIntervalUnit()
-                    )
-            );
-            createdTransactions++;
+        if (executedTemplates > 0 || failedTemplates > 0) {
+            log.info("Executed {} recurring transaction template(s) and created {} transaction(s) up to {}, failed={}",
+                    executedTemplates, createdTransactions, executionDate, failedTemplates);
         }
-        return createdTransactions;
     }
 }
@@ -1,11 +1,15 @@
 package org.tc.mtracker.transaction.recurring;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.tc.mtracker.category.Category;
 import org.tc.mtracker.category.enums.CategoryStatus;
+import org.tc.mtracker.transaction.recurring.dto.DueRecurringTransactionRow;
 import org.tc.mtracker.user.User;
 
 import java.time.LocalDate;
@@ -15,16 +19,41 @@ import java.util.Optional;
 public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
 
     @Query("""
-            SELECT rt FROM RecurringTransaction rt
+            SELECT new org.tc.mtracker.transaction.recurring.dto.DueRecurringTransactionRow(rt.id, rt.nextExecutionDate)
+            FROM RecurringTransaction rt
+            WHERE rt.nextExecutionDate <= :executionDate
+            AND rt.category.status = :status
+            ORDER BY rt.nextExecutionDate ASC, rt.id ASC
+            """)
+    List<DueRecurringTransactionRow> findFirstDue(
+            @Param("executionDate") LocalDate executionDate,
+            @Param("status") CategoryStatus status,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT new org.tc.mtracker.transaction.recurring.dto.DueRecurringTransactionRow(rt.id, rt.nextExecutionDate)
+            FROM RecurringTransaction rt
             WHERE rt.nextExecutionDate <= :executionDate
             AND rt.category.status = :status
+            AND (rt.nextExecutionDate > :afterDate OR (rt.nextExecutionDate = :afterDate AND rt.id > :afterId))
             ORDER BY rt.nextExecutionDate ASC, rt.id ASC
             """)
-    List<RecurringTransaction> findDueTransactions(
+    List<DueRecurringTransactionRow> findDueAfter(
             @Param("executionDate") LocalDate executionDate,
-            @Param("status") CategoryStatus status
+            @Param("status") CategoryStatus status,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
     );
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT rt FROM RecurringTransaction rt
+            WHERE rt.id = :id
+            """)
+    Optional<RecurringTransaction> findByIdForUpdate(@Param("id") Long id);
+
     @Query("""
             SELECT rt FROM RecurringTransaction rt
             WHERE rt.id = :id
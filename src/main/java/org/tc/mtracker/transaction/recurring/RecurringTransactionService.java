@@ -7,6 +7,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.tc.mtracker.account.Account;
 import org.tc.mtracker.category.Category;
+import org.tc.mtracker.category.enums.CategoryStatus;
+import org.tc.mtracker.common.idempotency.IdempotencyService;
 import org.tc.mtracker.transaction.Transaction;
 import org.tc.mtracker.transaction.TransactionService;
 import org.tc.mtracker.transaction.TransactionValidationService;
@@ -15,6 +17,7 @@ import org.tc.mtracker.transaction.recurring.dto.RecurringTransactionMapper;
 import org.tc.mtracker.transaction.recurring.dto.RecurringTransactionResponseDTO;
 import org.tc.mtracker.transaction.recurring.enums.IntervalUnit;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserService;
 import org.tc.mtracker.utils.exceptions.RecurringTransactionNotFoundException;
 
@@ -27,11 +30,15 @@ import java.util.List;
 @Slf4j
 public class RecurringTransactionService {
 
+    private static final String CREATE_OPERATION = "recurring-transaction.create";
+
     private final RecurringTransactionRepository recurringTransactionRepository;
     private final RecurringTransactionMapper recurringTransactionMapper;
     private final UserService userService;
     private final TransactionValidationService transactionValidationService;
     private final TransactionService transactionService;
+    private final UserDataVersionService userDataVersionService;
+    private final IdempotencyService idempotencyService;
 
     @Transactional(readOnly = true)
     public List<RecurringTransactionResponseDTO> getRecurringTransactions(Authentication auth) {
@@ -50,8 +57,57 @@ public class RecurringTransactionService {
     public RecurringTransactionResponseDTO createRecurringTransaction(
             Authentication auth,
             RecurringTransactionCreateRequestDTO requestDTO
+    ) {
+        return createRecurringTransaction(userService.getCurrentAuthenticatedUser(auth), requestDTO);
+    }
+
+    public RecurringTransactionResponseDTO createRecurringTransaction(
+            Authentication auth,
+            RecurringTransactionCreateRequestDTO requestDTO,
+            String idempotencyKey
     ) {
         User user = userService.getCurrentAuthenticatedUser(auth);
+        return idempotencyService.execute(user, idempotencyKey, CREATE_OPERATION, requestDTO, RecurringTransactionResponseDTO.class,
+                () -> createRecurringTransaction(user, requestDTO));
+    }
+
+    public void deleteRecurringTransaction(Long recurringTransactionId, Authentication auth) {
+        User user = userService.getCurrentAuthenticatedUser(auth);
+        RecurringTransaction recurringTransaction = findOwnedRecurringTransaction(recurringTransactionId, user);
+        recurringTransactionRepository.delete(recurringTransaction);
+        userDataVersionService.bump(user);
+        log.info("Recurring transaction deleted userId={} recurringTransactionId={}", user.getId(), recurringTransactionId);
+    }
+
+    public int executeDueTransaction(Long recurringTransactionId, LocalDate executionDate) {
+        RecurringTransaction recurringTransaction = recurringTransactionRepository.findByIdForUpdate(recurringTransactionId)
+                .orElse(null);
+        if (recurringTransaction == null
+                || recurringTransaction.getNextExecutionDate().isAfter(executionDate)
+                || recurringTransaction.getCategory().getStatus() != CategoryStatus.ACTIVE) {
+            return 0;
+        }
+
+        int createdTransactions = 0;
+        while (!recurringTransaction.getNextExecutionDate().isAfter(executionDate)) {
+            LocalDate transactionDate = recurringTransaction.getNextExecutionDate();
+            transactionService.createAutomatedTransaction(toTransaction(recurringTransaction, transactionDate));
+            recurringTransaction.setNextExecutionDate(nextExecutionDateAfter(transactionDate, recurringTransaction.getIntervalUnit()));
+            createdTransactions++;
+        }
+        log.debug("Recurring transaction executed recurringTransactionId={} created={} nextExecutionDate={}",
+                recurringTransactionId, createdTransactions, recurringTransaction.getNextExecutionDate());
+        return createdTransactions;
+    }
+
+    public LocalDate nextExecutionDateAfter(LocalDate baseDate, IntervalUnit intervalUnit) {
+        return switch (intervalUnit) {
+            case MONTHLY -> baseDate.plusMonths(1);
+            case YEARLY -> baseDate.plusYears(1);
+        };
+    }
+
+    private RecurringTransactionResponseDTO createRecurringTransaction(User user, RecurringTransactionCreateRequestDTO requestDTO) {
         transactionValidationService.validateRecurringStartDate(requestDTO.date(), user);
         LocalDate today = transactionValidationService.today();
 
@@ -69,6 +125,7 @@ public class RecurringTransactionService {
                 : requestDTO.date());
 
         RecurringTransaction saved = recurringTransactionRepository.save(recurringTransaction);
+        userDataVersionService.bump(user);
 
         if (startToday) {
             transactionService.createAutomatedTransaction(toTransaction(saved, requestDTO.date()));
@@ -82,20 +139,6 @@ public class RecurringTransactionService {
         return recurringTransactionMapper.toDto(saved);
     }
 
-    public void deleteRecurringTransaction(Long recurringTransactionId, Authentication auth) {
-        User user = userService.getCurrentAuthenticatedUser(auth);
-        RecurringTransaction recurringTransaction = findOwnedRecurringTransaction(recurringTransactionId, user);
-        recurringTransactionRepository.delete(recurringTransaction);
-        log.info("Recurring transaction deleted userId={} recurringTransactionId={}", user.getId(), recurringTransactionId);
-    }
-
-    public LocalDate nextExecutionDateAfter(LocalDate baseDate, IntervalUnit intervalUnit) {
-        return switch (intervalUnit) {
-            case MONTHLY -> baseDate.plusMonths(1);
-            case YEARLY -> baseDate.plusYears(1);
-        };
-    }
-
     private RecurringTransaction findOwnedRecurringTransaction(Long recurringTransactionId, User user) {
         return recurringTransactionRepository.findByIdAndUser(recurringTransactionId, user)
                 .orElseThrow(() -> {
@@ -77,10 +77,18 @@ public interface RecurringTransactionApi {
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ProblemDetail.class))
     )
+    @ApiResponse(
+            responseCode = "422",
+            description = "Idempotency-Key was already used for a different request",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class))
+    )
     @PostMapping
     ResponseEntity<RecurringTransactionResponseDTO> createRecurringTransaction(
             @Valid @RequestBody RecurringTransactionCreateRequestDTO requestDTO,
-            @Parameter(hidden = true) Authentication auth
+            @Parameter(hidden = true) Authentication auth,
+            @Parameter(description = "Client-generated key that makes retries of this request return the original response instead of creating a duplicate. Keys are kept for 24 hours.")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
     );
 
     @Operation(
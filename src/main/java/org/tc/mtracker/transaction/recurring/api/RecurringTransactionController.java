@@ -30,10 +30,11 @@ public class RecurringTransactionController implements RecurringTransactionApi {
     @Override
     public ResponseEntity<RecurringTransactionResponseDTO> createRecurringTransaction(
             RecurringTransactionCreateRequestDTO requestDTO,
-            Authentication auth
+            Authentication auth,
+            String idempotencyKey
     ) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(recurringTransactionService.createRecurringTransaction(auth, requestDTO));
+                .body(recurringTransactionService.createRecurringTransaction(auth, requestDTO, idempotencyKey));
     }
 
     @Override
@@ -0,0 +1,6 @@
+package org.tc.mtracker.transaction.recurring.dto;
+
+import java.time.LocalDate;
+
+public record DueRecurringTransactionRow(Long id, LocalDate nextExecutionDate) {
+}
@@ -0,0 +1,26 @@
+package org.tc.mtracker.user;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserDataChangeRepository extends JpaRepository<UserDataChange, Long> {
+
+    @Query("""
+                SELECT DISTINCT c.userId FROM UserDataChange c
+                ORDER BY c.userId
+            """)
+    List<Long> findPendingUserIds(Pageable pageable);
+
+    @Query(value = """
+                SELECT * FROM user_data_changes
+                WHERE user_id = :userId
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE
+            """, nativeQuery = true)
+    List<UserDataChange> lockPendingByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+}
@@ -0,0 +1,30 @@
+package org.tc.mtracker.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+class UserDataVersionCompactionJob {
+
+    private final UserDataVersionService userDataVersionService;
+
+    @Scheduled(cron = "${app.users.data-version-compaction.cron}")
+    public void compact() {
+        List<Long> userIds;
+        do {
+            userIds = userDataVersionService.findPendingUserIds();
+            userIds.forEach(this::compactUser);
+        } while (userIds.size() == userDataVersionService.batchSize());
+    }
+
+    private void compactUser(Long userId) {
+        int processed;
+        do {
+            processed = userDataVersionService.compactUser(userId);
+        } while (processed == userDataVersionService.batchSize());
+    }
+}
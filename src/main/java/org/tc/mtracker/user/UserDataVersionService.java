@@ -0,0 +1,71 @@
+package org.tc.mtracker.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.tc.mtracker.utils.exceptions.UserNotFoundException;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserDataVersionService {
+
+    private final UserRepository userRepository;
+    private final UserDataChangeRepository userDataChangeRepository;
+
+    @Value("${app.users.data-version-compaction.batch-size}")
+    private int batchSize;
+
+    @Transactional
+    public void bump(User user) {
+        bump(user.getId());
+    }
+
+    @Transactional
+    public void bump(Long userId) {
+        userDataChangeRepository.save(new UserDataChange(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public String currentETag(Authentication auth, Object... qualifiers) {
+        String dataVersion = userRepository.findDataVersionByEmail(auth.getName())
+                .orElseThrow(() -> {
+                    log.warn("Authenticated user record not found for email={}", auth.getName());
+                    return new UserNotFoundException("User not found.");
+                });
+
+        StringBuilder eTag = new StringBuilder("W/\"").append(dataVersion);
+        for (Object qualifier : qualifiers) {
+            eTag.append('-').append(qualifier);
+        }
+        return eTag.append('"').toString();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPendingUserIds() {
+        return userDataChangeRepository.findPendingUserIds(PageRequest.of(0, batchSize));
+    }
+
+    @Transactional
+    public int compactUser(Long userId) {
+        List<UserDataChange> pending = userDataChangeRepository.lockPendingByUserId(userId, batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        userRepository.addToDataVersion(userId, pending.size());
+        userDataChangeRepository.deleteAllInBatch(pending);
+        log.debug("User data version compacted userId={} changes={}", userId, pending.size());
+        return pending.size();
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+}
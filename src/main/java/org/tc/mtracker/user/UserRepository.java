@@ -1,6 +1,9 @@
 package org.tc.mtracker.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Modifying
+    @Query(value = "UPDATE users SET data_version = data_version + :changes WHERE id = :userId", nativeQuery = true)
+    void addToDataVersion(@Param("userId") Long userId, @Param("changes") long changes);
+
+    @Query(value = """
+                SELECT CONCAT(u.id, '-', u.data_version + (SELECT COUNT(*) FROM user_data_changes c WHERE c.user_id = u.id))
+                FROM users u
+                WHERE u.email = :email
+            """, nativeQuery = true)
+    Optional<String> findDataVersionByEmail(@Param("email") String email);
 }
@@ -1,37 +1,81 @@
 package org.tc.mtracker.utils;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.tc.mtracker.common.cache.ExpiringCache;
 import org.tc.mtracker.common.file.UploadValidation;
 import org.tc.mtracker.utils.config.properties.AwsProperties;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class S3Service {
 
     private static final Duration PRESIGNED_URL_TTL = Duration.ofMinutes(60);
+    private static final Duration PRESIGNED_URL_SAFETY_MARGIN = Duration.ofMinutes(10);
+    private static final int PRESIGNED_URL_CACHE_SIZE = 10_000;
+    private static final int MAX_KEYS_PER_DELETE = 1_000;
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final S3Presigner s3Presigner;
     private final AwsProperties awsProperties;
+    private final Clock clock;
+    private final ExpiringCache<String, String> presignedUrlCache;
+    private final int uploadConcurrency;
 
+    public S3Service(S3Client s3Client, S3AsyncClient s3AsyncClient, S3Presigner s3Presigner, AwsProperties awsProperties,
+                     Clock clock, MeterRegistry meterRegistry,
+                     @Value("${app.storage.upload-concurrency}") int uploadConcurrency) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.awsProperties = awsProperties;
+        this.clock = clock;
+        this.uploadConcurrency = uploadConcurrency;
+        this.presignedUrlCache = new ExpiringCache<>("s3.presigned-urls", PRESIGNED_URL_CACHE_SIZE, clock, meterRegistry);
+    }
 
     public void saveFile(String objectKey, MultipartFile file) {
+        presignedUrlCache.evict(objectKey);
         PutObjectRequest putObjectRequest = buildPutObjectRequest(objectKey, file);
 
         try {
@@ -45,12 +89,65 @@ public class S3Service {
         }
     }
 
+    public void saveFile(String objectKey, byte[] content, String contentType) {
+        presignedUrlCache.evict(objectKey);
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucketName())
+                        .key(objectKey)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(content)
+        );
+    }
+
+    public byte[] readFile(String objectKey) {
+        return s3Client.getObjectAsBytes(buildGetObjectRequest(objectKey)).asByteArray();
+    }
+
+    public void saveFiles(Map<String, MultipartFile> files) {
+        uploadFiles(files, true);
+    }
+
+    public void saveContentAddressedFiles(Map<String, MultipartFile> files) {
+        uploadFiles(files, false);
+    }
+
+    public String generatePresignedUploadUrl(String objectKey, String contentType, long contentLength, Duration ttl) {
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName())
+                        .key(objectKey)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build())
+                .build();
+
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    }
+
+    public Optional<HeadObjectResponse> findFile(String objectKey) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName())
+                    .key(objectKey)
+                    .build()));
+        } catch (NoSuchKeyException ex) {
+            return Optional.empty();
+        }
+    }
 
     public String generatePresignedUrl(String objectKey) {
         if (objectKey == null || objectKey.isBlank()) {
             return null;
         }
 
+        String cachedUrl = presignedUrlCache.get(objectKey);
+        if (cachedUrl != null) {
+            return cachedUrl;
+        }
+
         GetObjectRequest getObjectRequest = buildGetObjectRequest(objectKey);
 
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
@@ -59,7 +156,13 @@ public class S3Service {
                 .build();
 
         PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-        return presignedRequest.url().toString();
+        String url = presignedRequest.url().toString();
+        presignedUrlCache.put(objectKey, url, presignedRequest.expiration().minus(PRESIGNED_URL_SAFETY_MARGIN));
+        return url;
+    }
+
+    public long presignedUrlEpoch() {
+        return clock.millis() / PRESIGNED_URL_SAFETY_MARGIN.toMillis();
     }
 
     public void deleteFile(String objectKey) {
@@ -67,6 +170,7 @@ public class S3Service {
             return;
         }
 
+        presignedUrlCache.evict(objectKey);
         try {
             s3Client.deleteObject(DeleteObjectRequest.builder()
                     .bucket(bucketName())
@@ -78,6 +182,91 @@ public class S3Service {
         }
     }
 
+    public Set<String> deleteFiles(Collection<String> objectKeys) {
+        Set<String> failedKeys = new HashSet<>();
+        List<String> keys = List.copyOf(objectKeys);
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+            chunk.forEach(presignedUrlCache::evict);
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName())
+                    .delete(Delete.builder()
+                            .objects(chunk.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build());
+
+            for (S3Error error : response.errors()) {
+                log.warn("Failed to delete file from object storage key={} code={} message={}",
+                        error.key(), error.code(), error.message());
+                failedKeys.add(error.key());
+            }
+        }
+        return failedKeys;
+    }
+
+    private void uploadFiles(Map<String, MultipartFile> files, boolean removePartialUploads) {
+        Semaphore permits = new Semaphore(uploadConcurrency);
+        Set<String> uploadedKeys = ConcurrentHashMap.newKeySet();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        List<CompletableFuture<?>> uploads = new ArrayList<>(files.size());
+
+        for (Map.Entry<String, MultipartFile> file : files.entrySet()) {
+            permits.acquireUninterruptibly();
+            if (failure.get() != null) {
+                break;
+            }
+
+            String objectKey = file.getKey();
+            presignedUrlCache.evict(objectKey);
+            AsyncRequestBody body;
+            try {
+                body = AsyncRequestBody.fromBytes(file.getValue().getBytes());
+            } catch (IOException e) {
+                failure.compareAndSet(null, new UncheckedIOException("Failed to upload file to S3. key=" + objectKey, e));
+                break;
+            }
+
+            uploads.add(s3AsyncClient.putObject(buildPutObjectRequest(objectKey, file.getValue()), body)
+                    .whenComplete((response, ex) -> {
+                        if (ex == null) {
+                            uploadedKeys.add(objectKey);
+                        } else {
+                            failure.compareAndSet(null, toUploadFailure(objectKey, ex));
+                        }
+                        permits.release();
+                    }));
+        }
+
+        CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+        if (failure.get() != null) {
+            log.error("Failed to upload files to object storage files={} uploaded={}", files.size(), uploadedKeys.size(), failure.get());
+            if (removePartialUploads) {
+                removePartialUploads(uploadedKeys);
+            }
+            throw failure.get();
+        }
+    }
+
+    private void removePartialUploads(Set<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        try {
+            deleteFiles(objectKeys);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to remove partial uploads from object storage keys={}", objectKeys, ex);
+        }
+    }
+
+    private static RuntimeException toUploadFailure(String objectKey, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException("Failed to upload file to S3. key=" + objectKey, cause);
+    }
+
     private PutObjectRequest buildPutObjectRequest(String objectKey, MultipartFile file) {
         return PutObjectRequest.builder()
                 .bucket(bucketName())
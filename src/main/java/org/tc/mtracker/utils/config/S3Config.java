@@ -7,6 +7,8 @@ import org.tc.mtracker.utils.config.properties.AwsProperties;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.S3Configuration;
@@ -40,6 +42,22 @@ public class S3Config {
         return builder.build();
     }
 
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(awsProperties.region()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(awsProperties.accessKeyId(), awsProperties.secretAccessKey())))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(awsProperties.s3().pathStyleAccessEnabled()).build());
+
+        if (awsProperties.endpoint() != null && !awsProperties.endpoint().isBlank()) {
+            builder.endpointOverride(URI.create(awsProperties.endpoint()));
+        }
+
+        return builder.build();
+    }
+
     @Bean
     public S3Presigner s3Presigner() {
         S3Presigner.Builder builder = S3Presigner.builder()
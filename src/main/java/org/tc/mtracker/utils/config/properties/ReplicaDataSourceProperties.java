@@ -0,0 +1,17 @@
+package org.tc.mtracker.utils.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        int maximumPoolSize,
+        Duration maxLag,
+        Duration readYourWritesWindow
+) {
+}
@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class BulkFilterRequiredException extends ApiException {
+    public BulkFilterRequiredException(String message) {
+        super(HttpStatus.BAD_REQUEST, "bulk_filter_required", message);
+    }
+}
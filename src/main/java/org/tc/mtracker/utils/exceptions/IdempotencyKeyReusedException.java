@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyReusedException extends ApiException {
+    public IdempotencyKeyReusedException(String message) {
+        super(HttpStatus.UNPROCESSABLE_CONTENT, "idempotency_key_reused", message);
+    }
+}
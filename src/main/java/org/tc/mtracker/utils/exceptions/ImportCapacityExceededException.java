@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ImportCapacityExceededException extends ApiException {
+    public ImportCapacityExceededException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "import_capacity_exceeded", message);
+    }
+}
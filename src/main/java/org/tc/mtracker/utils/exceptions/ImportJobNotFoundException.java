@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ImportJobNotFoundException extends ApiException {
+    public ImportJobNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, "import_job_not_found", message);
+    }
+}
@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class ImportRuleNotFoundException extends ApiException {
+    public ImportRuleNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, "import_rule_not_found", message);
+    }
+}
@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends ApiException {
+    public InvalidCursorException(String message) {
+        super(HttpStatus.BAD_REQUEST, "invalid_cursor", message);
+    }
+}
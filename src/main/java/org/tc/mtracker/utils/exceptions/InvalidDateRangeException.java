@@ -0,0 +1,10 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidDateRangeException extends ApiException {
+
+    public InvalidDateRangeException(String message) {
+        super(HttpStatus.BAD_REQUEST, "invalid_date_range", message);
+    }
+}
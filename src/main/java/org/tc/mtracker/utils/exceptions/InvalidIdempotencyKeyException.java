@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidIdempotencyKeyException extends ApiException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(HttpStatus.BAD_REQUEST, "invalid_idempotency_key", message);
+    }
+}
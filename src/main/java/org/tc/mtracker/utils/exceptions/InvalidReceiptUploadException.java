@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidReceiptUploadException extends ApiException {
+    public InvalidReceiptUploadException(String message) {
+        super(HttpStatus.BAD_REQUEST, "invalid_receipt_upload", message);
+    }
+}
@@ -0,0 +1,9 @@
+package org.tc.mtracker.utils.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidStatementFileException extends ApiException {
+    public InvalidStatementFileException(String message) {
+        super(HttpStatus.BAD_REQUEST, "invalid_statement_file", message);
+    }
+}
@@ -0,0 +1,30 @@
+CREATE TABLE account_balance_checkpoints
+(
+    account_id BIGINT         NOT NULL,
+    period_end DATE           NOT NULL,
+    balance    DECIMAL(19, 2) NOT NULL,
+    CONSTRAINT pk_account_balance_checkpoints PRIMARY KEY (account_id, period_end),
+    CONSTRAINT fk_account_balance_checkpoint_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+INSERT INTO account_balance_checkpoints (account_id, period_end, balance)
+WITH RECURSIVE months (period_end) AS (
+    SELECT LAST_DAY(MIN(t.date))
+    FROM transactions t
+    WHERE t.deleted_at IS NULL
+    UNION ALL
+    SELECT LAST_DAY(m.period_end + INTERVAL 1 DAY)
+    FROM months m
+    WHERE m.period_end < LAST_DAY(CURRENT_DATE - INTERVAL 1 MONTH)
+)
+SELECT a.id,
+       m.period_end,
+       a.balance - COALESCE((SELECT SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END)
+                             FROM transactions t
+                             WHERE t.account_id = a.id
+                               AND t.deleted_at IS NULL
+                               AND t.date > m.period_end), 0)
+FROM accounts a
+         CROSS JOIN months m
+WHERE m.period_end IS NOT NULL
+  AND m.period_end <= LAST_DAY(CURRENT_DATE - INTERVAL 1 MONTH);
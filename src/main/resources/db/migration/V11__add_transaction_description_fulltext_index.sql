@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX ft_transactions_description ON transactions (description);
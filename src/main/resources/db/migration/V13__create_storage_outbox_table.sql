@@ -0,0 +1,13 @@
+CREATE TABLE storage_outbox
+(
+    id              BIGINT AUTO_INCREMENT NOT NULL,
+    operation       VARCHAR(32)           NOT NULL,
+    object_key      VARCHAR(255)          NOT NULL,
+    attempts        INT                   NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)           NOT NULL,
+    last_error      VARCHAR(1000)         NULL,
+    created_at      DATETIME(6)           NOT NULL,
+    CONSTRAINT pk_storage_outbox PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_storage_outbox_due ON storage_outbox (next_attempt_at, id);
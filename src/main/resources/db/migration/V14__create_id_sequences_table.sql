@@ -0,0 +1,17 @@
+CREATE TABLE id_sequences
+(
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    CONSTRAINT pk_id_sequences PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'transactions', COALESCE(MAX(id), 0) + 101
+FROM transactions;
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE transactions
+    MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,40 @@
+CREATE TABLE import_rules
+(
+    id          BIGINT AUTO_INCREMENT NOT NULL,
+    user_id     BIGINT                NOT NULL,
+    pattern     VARCHAR(255)          NOT NULL,
+    category_id BIGINT                NOT NULL,
+    priority    INT                   NOT NULL DEFAULT 0,
+    created_at  DATETIME(6)           NOT NULL,
+    CONSTRAINT pk_import_rules PRIMARY KEY (id),
+    CONSTRAINT fk_import_rules_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_import_rules_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE INDEX idx_import_rules_user_priority ON import_rules (user_id, priority, id);
+
+CREATE TABLE import_jobs
+(
+    id                   BIGINT AUTO_INCREMENT NOT NULL,
+    user_id              BIGINT                NOT NULL,
+    account_id           BIGINT                NOT NULL,
+    format               VARCHAR(16)           NOT NULL,
+    status               VARCHAR(16)           NOT NULL,
+    income_category_id   BIGINT                NULL,
+    expense_category_id  BIGINT                NULL,
+    processed_rows       INT                   NOT NULL DEFAULT 0,
+    imported_rows        INT                   NOT NULL DEFAULT 0,
+    skipped_rows         INT                   NOT NULL DEFAULT 0,
+    failed_rows          INT                   NOT NULL DEFAULT 0,
+    last_error           VARCHAR(1000)         NULL,
+    created_at           DATETIME(6)           NOT NULL,
+    updated_at           DATETIME(6)           NOT NULL,
+    finished_at          DATETIME(6)           NULL,
+    CONSTRAINT pk_import_jobs PRIMARY KEY (id),
+    CONSTRAINT fk_import_jobs_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_import_jobs_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_import_jobs_income_category FOREIGN KEY (income_category_id) REFERENCES categories (id),
+    CONSTRAINT fk_import_jobs_expense_category FOREIGN KEY (expense_category_id) REFERENCES categories (id)
+);
+
+CREATE INDEX idx_import_jobs_user ON import_jobs (user_id, id);
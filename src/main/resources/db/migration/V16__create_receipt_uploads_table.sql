@@ -0,0 +1,14 @@
+CREATE TABLE receipt_uploads
+(
+    receipt_id   BINARY(16)    NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    content_type VARCHAR(100)  NOT NULL,
+    size         BIGINT        NOT NULL,
+    guard_id     BIGINT        NOT NULL,
+    expires_at   DATETIME(6)   NOT NULL,
+    created_at   DATETIME(6)   NOT NULL,
+    CONSTRAINT pk_receipt_uploads PRIMARY KEY (receipt_id),
+    CONSTRAINT fk_receipt_uploads_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_receipt_uploads_user_expires ON receipt_uploads (user_id, expires_at);
@@ -0,0 +1,4 @@
+ALTER TABLE receipt_images
+    ADD COLUMN thumbnail_status VARCHAR(16) NOT NULL DEFAULT 'PENDING';
+
+CREATE INDEX idx_receipt_images_thumbnail_status ON receipt_images (thumbnail_status);
@@ -0,0 +1,17 @@
+CREATE TABLE receipt_objects
+(
+    content_hash    CHAR(64)      NOT NULL,
+    size            BIGINT        NOT NULL,
+    content_type    VARCHAR(100)  NOT NULL,
+    reference_count INT           NOT NULL DEFAULT 0,
+    stored          BOOLEAN       NOT NULL DEFAULT FALSE,
+    created_at      DATETIME(6)   NOT NULL,
+    updated_at      DATETIME(6)   NOT NULL,
+    CONSTRAINT pk_receipt_objects PRIMARY KEY (content_hash)
+);
+
+CREATE INDEX idx_receipt_objects_unreferenced ON receipt_objects (reference_count, updated_at);
+
+ALTER TABLE receipt_images
+    ADD COLUMN content_hash CHAR(64) NULL,
+    ADD CONSTRAINT fk_receipt_images_object FOREIGN KEY (content_hash) REFERENCES receipt_objects (content_hash);
@@ -0,0 +1,11 @@
+CREATE TABLE account_balance_deltas
+(
+    id         BIGINT AUTO_INCREMENT NOT NULL,
+    account_id BIGINT                NOT NULL,
+    delta      DECIMAL(19, 2)        NOT NULL,
+    created_at DATETIME(6)           NOT NULL,
+    CONSTRAINT pk_account_balance_deltas PRIMARY KEY (id),
+    CONSTRAINT fk_account_balance_delta_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+CREATE INDEX idx_account_balance_deltas_account ON account_balance_deltas (account_id, id);
@@ -0,0 +1,13 @@
+CREATE TABLE idempotency_keys
+(
+    user_id         BIGINT       NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    operation       VARCHAR(64)  NOT NULL,
+    request_hash    CHAR(64)     NOT NULL,
+    response_body   MEDIUMTEXT   NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,2 @@
+CREATE INDEX idx_recurring_transactions_next_execution
+    ON recurring_transactions (next_execution_date, id);
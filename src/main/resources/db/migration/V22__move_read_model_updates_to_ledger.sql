@@ -0,0 +1,20 @@
+ALTER TABLE account_balance_deltas
+    ADD COLUMN user_id           BIGINT         NULL,
+    ADD COLUMN category_id       BIGINT         NULL,
+    ADD COLUMN entry_date        DATE           NULL,
+    ADD COLUMN income_delta      DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    ADD COLUMN expense_delta     DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    ADD COLUMN transaction_count INT            NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_account_balance_deltas_user_date ON account_balance_deltas (user_id, entry_date);
+CREATE INDEX idx_account_balance_deltas_date ON account_balance_deltas (entry_date);
+
+CREATE TABLE user_data_changes
+(
+    id         BIGINT AUTO_INCREMENT NOT NULL,
+    user_id    BIGINT                NOT NULL,
+    created_at DATETIME(6)           NOT NULL,
+    CONSTRAINT pk_user_data_changes PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_user_data_changes_user ON user_data_changes (user_id, id);
@@ -0,0 +1,10 @@
+ALTER TABLE import_jobs
+    ADD COLUMN owner VARCHAR(64) NULL,
+    ADD COLUMN lease_expires_at DATETIME(6) NULL;
+
+UPDATE import_jobs
+SET lease_expires_at = updated_at
+WHERE status IN ('PENDING', 'RUNNING');
+
+CREATE INDEX idx_import_jobs_status_lease
+    ON import_jobs (status, lease_expires_at);
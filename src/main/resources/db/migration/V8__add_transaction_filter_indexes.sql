@@ -0,0 +1,11 @@
+CREATE INDEX idx_transactions_user_listing
+    ON transactions (user_id, deleted_at, date, created_at, id);
+
+CREATE INDEX idx_transactions_account_listing
+    ON transactions (account_id, deleted_at, date, created_at, id);
+
+CREATE INDEX idx_transactions_user_category_listing
+    ON transactions (user_id, category_id, deleted_at, date, created_at, id);
+
+CREATE INDEX idx_transactions_user_type_listing
+    ON transactions (user_id, type, deleted_at, date, created_at, id);
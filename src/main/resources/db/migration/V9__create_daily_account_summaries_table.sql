@@ -0,0 +1,28 @@
+CREATE TABLE daily_account_summaries
+(
+    account_id        BIGINT         NOT NULL,
+    category_id       BIGINT         NOT NULL,
+    summary_date      DATE           NOT NULL,
+    user_id           BIGINT         NOT NULL,
+    income_total      DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    expense_total     DECIMAL(19, 2) NOT NULL DEFAULT 0.00,
+    transaction_count INT            NOT NULL DEFAULT 0,
+    CONSTRAINT pk_daily_account_summaries PRIMARY KEY (account_id, summary_date, category_id),
+    CONSTRAINT fk_daily_account_summary_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_daily_account_summary_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_daily_account_summary_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE INDEX idx_daily_account_summaries_user_date ON daily_account_summaries (user_id, summary_date);
+
+INSERT INTO daily_account_summaries (account_id, category_id, summary_date, user_id, income_total, expense_total, transaction_count)
+SELECT t.account_id,
+       t.category_id,
+       t.date,
+       t.user_id,
+       SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END),
+       SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END),
+       COUNT(*)
+FROM transactions t
+WHERE t.deleted_at IS NULL
+GROUP BY t.account_id, t.category_id, t.date, t.user_id;
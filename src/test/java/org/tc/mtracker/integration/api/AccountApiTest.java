@@ -4,11 +4,25 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.tc.mtracker.account.AccountBalanceDeltaRepository;
+import org.tc.mtracker.account.AccountBalanceHistoryService;
+import org.tc.mtracker.account.AccountBalanceReconciler;
+import org.tc.mtracker.account.AccountBalanceService;
+import org.tc.mtracker.account.AccountRepository;
+import org.tc.mtracker.account.BalanceReconciliationReport;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.common.enums.TransactionType;
 import org.tc.mtracker.support.base.BaseApiIntegrationTest;
+import org.tc.mtracker.transaction.dto.TransactionCreateRequestDTO;
 import org.tc.mtracker.user.User;
 import org.tc.mtracker.user.UserRepository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @Tag("integration")
 class AccountApiTest extends BaseApiIntegrationTest {
@@ -16,6 +30,21 @@ class AccountApiTest extends BaseApiIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AccountBalanceHistoryService accountBalanceHistoryService;
+
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+
+    @Autowired
+    private AccountBalanceReconciler accountBalanceReconciler;
+
     @Test
     void shouldReturnDefaultAccount() {
         User user = fixtures.createUser("account@example.com", true, new BigDecimal("123.45"));
@@ -30,6 +59,59 @@ class AccountApiTest extends BaseApiIntegrationTest {
                 .jsonPath("$.balance").isEqualTo(123.45);
     }
 
+    @Test
+    void shouldReturnPendingLedgerDeltasInBalanceAndFoldThemOnCompaction() {
+        User user = fixtures.createUser("balance-ledger@example.com", true, new BigDecimal("100.00"));
+        Category salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        Category groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        Long accountId = user.getDefaultAccount().getId();
+
+        createTransaction(user, salary, new BigDecimal("50.00"), TransactionType.INCOME, LocalDate.of(2026, 3, 1));
+        createTransaction(user, groceries, new BigDecimal("20.00"), TransactionType.EXPENSE, LocalDate.of(2026, 3, 2));
+
+        assertThat(accountBalanceDeltaRepository.count()).isEqualTo(2);
+        assertThat(accountRepository.findById(accountId).orElseThrow().getBalance()).isEqualByComparingTo("100.00");
+        assertDefaultAccountBalance(user, 130.00);
+
+        assertThat(accountBalanceService.compactAccount(accountId)).isEqualTo(2);
+
+        assertThat(accountBalanceDeltaRepository.count()).isZero();
+        assertThat(accountRepository.findById(accountId).orElseThrow().getBalance()).isEqualByComparingTo("130.00");
+        assertDefaultAccountBalance(user, 130.00);
+    }
+
+    @Test
+    void shouldReportAndCorrectBalanceDriftAcrossParallelChunks() {
+        User consistent = fixtures.createUser("reconcile-consistent@example.com");
+        User drifted = fixtures.createUser("reconcile-drifted@example.com", true, new BigDecimal("25.00"));
+        User untouched = fixtures.createUser("reconcile-untouched@example.com");
+        Category salary = fixtures.createUserCategory(consistent, "Salary", TransactionType.INCOME);
+        createTransaction(consistent, salary, new BigDecimal("50.00"), TransactionType.INCOME, LocalDate.of(2026, 3, 1));
+        Long driftedAccountId = drifted.getDefaultAccount().getId();
+
+        BalanceReconciliationReport report = accountBalanceReconciler.reconcile(false).orElseThrow();
+
+        assertThat(report.accounts()).isEqualTo(3);
+        assertThat(report.mismatches()).isEqualTo(1);
+        assertThat(report.corrected()).isZero();
+        assertThat(report.failedChunks()).isZero();
+        assertThat(accountRepository.findCurrentBalance(driftedAccountId).orElseThrow()).isEqualByComparingTo("25.00");
+        String driftedVersion = userRepository.findDataVersionByEmail(drifted.getEmail()).orElseThrow();
+        String consistentVersion = userRepository.findDataVersionByEmail(consistent.getEmail()).orElseThrow();
+
+        BalanceReconciliationReport corrected = accountBalanceReconciler.reconcile(true).orElseThrow();
+
+        assertThat(corrected.mismatches()).isEqualTo(1);
+        assertThat(corrected.corrected()).isEqualTo(1);
+        assertThat(accountRepository.findCurrentBalance(driftedAccountId).orElseThrow()).isEqualByComparingTo("0.00");
+        assertThat(accountRepository.findCurrentBalance(consistent.getDefaultAccount().getId()).orElseThrow()).isEqualByComparingTo("50.00");
+        assertThat(accountRepository.findCurrentBalance(untouched.getDefaultAccount().getId()).orElseThrow()).isEqualByComparingTo("0.00");
+        assertThat(userRepository.findDataVersionByEmail(drifted.getEmail())).hasValueSatisfying(
+                version -> assertThat(version).isNotEqualTo(driftedVersion));
+        assertThat(userRepository.findDataVersionByEmail(consistent.getEmail())).hasValue(consistentVersion);
+        assertThat(accountBalanceReconciler.reconcile(false).orElseThrow().mismatches()).isZero();
+    }
+
     @Test
     void shouldReturnNotFoundWhenDefaultAccountIsMissing() {
         User user = fixtures.createUser("missing-account@example.com");
@@ -42,4 +124,107 @@ class AccountApiTest extends BaseApiIntegrationTest {
                 .exchange()
                 .expectStatus().isNotFound();
     }
+
+    @Test
+    void shouldReturnBalanceAtDateFromCheckpointKeptCurrentByBackdatedTransactions() {
+        User user = fixtures.createUser("balance-at@example.com");
+        Category salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        Category groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        Long accountId = user.getDefaultAccount().getId();
+
+        createTransaction(user, salary, new BigDecimal("1000.00"), TransactionType.INCOME, LocalDate.of(2026, 2, 10));
+        createTransaction(user, groceries, new BigDecimal("200.00"), TransactionType.EXPENSE, LocalDate.of(2026, 3, 5));
+        accountBalanceHistoryService.createCheckpoints(LocalDate.of(2026, 2, 28));
+        createTransaction(user, groceries, new BigDecimal("100.00"), TransactionType.EXPENSE, LocalDate.of(2026, 1, 15));
+
+        assertBalanceAt(user, accountId, "2026-01-14", 0.00);
+        assertBalanceAt(user, accountId, "2026-01-31", -100.00);
+        assertBalanceAt(user, accountId, "2026-02-28", 900.00);
+        assertBalanceAt(user, accountId, "2026-03-10", 700.00);
+
+        accountBalanceService.compactAccount(accountId);
+
+        assertBalanceAt(user, accountId, "2026-01-31", -100.00);
+        assertBalanceAt(user, accountId, "2026-02-28", 900.00);
+        assertBalanceAt(user, accountId, "2026-03-10", 700.00);
+    }
+
+    @Test
+    void shouldReturnDailyBalanceHistory() {
+        User user = fixtures.createUser("balance-history@example.com");
+        Category salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        Category groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        Long accountId = user.getDefaultAccount().getId();
+
+        createTransaction(user, salary, new BigDecimal("500.00"), TransactionType.INCOME, LocalDate.of(2026, 3, 1));
+        createTransaction(user, groceries, new BigDecimal("40.00"), TransactionType.EXPENSE, LocalDate.of(2026, 3, 3));
+        createTransaction(user, groceries, new BigDecimal("10.00"), TransactionType.EXPENSE, LocalDate.of(2026, 3, 3));
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/accounts/{accountId}/balance-history")
+                        .queryParam("dateFrom", "2026-03-02")
+                        .queryParam("dateTo", "2026-03-04")
+                        .build(accountId))
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.points.length()").isEqualTo(3)
+                .jsonPath("$.points[0].date").isEqualTo("2026-03-02")
+                .jsonPath("$.points[0].balance").isEqualTo(500.00)
+                .jsonPath("$.points[1].balance").isEqualTo(450.00)
+                .jsonPath("$.points[2].balance").isEqualTo(450.00);
+    }
+
+    @Test
+    void shouldReturnNotFoundForBalanceOfForeignAccount() {
+        User user = fixtures.createUser("balance-owner@example.com");
+        User otherUser = fixtures.createUser("balance-foreign@example.com");
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/accounts/{accountId}/balance")
+                        .queryParam("date", "2026-03-01")
+                        .build(otherUser.getDefaultAccount().getId()))
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private void assertDefaultAccountBalance(User user, double expectedBalance) {
+        restTestClient.get()
+                .uri("/api/v1/accounts/default")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.balance").isEqualTo(expectedBalance);
+    }
+
+    private void assertBalanceAt(User user, Long accountId, String date, double expectedBalance) {
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/accounts/{accountId}/balance")
+                        .queryParam("date", date)
+                        .build(accountId))
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.date").isEqualTo(date)
+                .jsonPath("$.balance").isEqualTo(expectedBalance);
+    }
+
+    private void createTransaction(User user, Category category, BigDecimal amount, TransactionType type, LocalDate date) {
+        MultipartBodyBuilder parts = new MultipartBodyBuilder();
+        parts.part("dto", new TransactionCreateRequestDTO(amount, type, category.getId(), date, null, null), MediaType.APPLICATION_JSON);
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(parts.build())
+                .exchange()
+                .expectStatus().isCreated();
+    }
 }
@@ -0,0 +1,187 @@
+package org.tc.mtracker.integration.api;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.tc.mtracker.account.Account;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryRebuildJob;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.support.base.BaseApiIntegrationTest;
+import org.tc.mtracker.transaction.Transaction;
+import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.transaction.dto.TransactionCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionResponseDTO;
+import org.tc.mtracker.user.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+class AnalyticsApiTest extends BaseApiIntegrationTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DailyAccountSummaryRebuildJob dailyAccountSummaryRebuildJob;
+
+    @Test
+    void shouldReturnCategoryBreakdownForDateRange() {
+        User user = fixtures.createUser("breakdown@example.com");
+        User otherUser = fixtures.createUser("breakdown-other@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var rent = fixtures.createUserCategory(user, "Rent", TransactionType.EXPENSE);
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        var otherGroceries = fixtures.createUserCategory(otherUser, "Groceries", TransactionType.EXPENSE);
+        Account account = user.getDefaultAccount();
+
+        fixtures.createTransaction(user, account, groceries, new BigDecimal("20.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 2), "Market");
+        fixtures.createTransaction(user, account, groceries, new BigDecimal("15.50"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 10), "Market");
+        fixtures.createTransaction(user, account, rent, new BigDecimal("800.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 1), "Rent");
+        fixtures.createTransaction(user, account, salary, new BigDecimal("3000.00"), TransactionType.INCOME, LocalDate.of(2026, 4, 5), "Salary");
+        fixtures.createTransaction(user, account, groceries, new BigDecimal("99.00"), TransactionType.EXPENSE, LocalDate.of(2026, 3, 31), "Previous month");
+        fixtures.createTransaction(otherUser, otherUser.getDefaultAccount(), otherGroceries, new BigDecimal("55.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 3), "Other user");
+        Transaction deleted = fixtures.createTransaction(user, account, groceries, new BigDecimal("40.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 4), "Deleted");
+        deleted.setDeletedAt(LocalDateTime.now());
+        transactionRepository.saveAndFlush(deleted);
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/analytics/category-breakdown")
+                        .queryParam("dateFrom", "2026-04-01")
+                        .queryParam("dateTo", "2026-04-30")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalIncome").isEqualTo(3000.00)
+                .jsonPath("$.totalExpense").isEqualTo(835.50)
+                .jsonPath("$.items.length()").isEqualTo(3)
+                .jsonPath("$.items[0].categoryId").isEqualTo(rent.getId())
+                .jsonPath("$.items[0].total").isEqualTo(800.00)
+                .jsonPath("$.items[1].categoryId").isEqualTo(groceries.getId())
+                .jsonPath("$.items[1].total").isEqualTo(35.50)
+                .jsonPath("$.items[1].transactionCount").isEqualTo(2)
+                .jsonPath("$.items[2].categoryId").isEqualTo(salary.getId())
+                .jsonPath("$.items[2].type").isEqualTo("INCOME");
+    }
+
+    @Test
+    void shouldRejectCategoryBreakdownWhenDateRangeIsReversed() {
+        User user = fixtures.createUser("breakdown-range@example.com");
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/analytics/category-breakdown")
+                        .queryParam("dateFrom", "2026-04-30")
+                        .queryParam("dateTo", "2026-04-01")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("invalid_date_range");
+    }
+
+    @Test
+    void shouldReturnNotFoundForCategoryBreakdownOfForeignAccount() {
+        User user = fixtures.createUser("breakdown-owner@example.com");
+        User otherUser = fixtures.createUser("breakdown-foreign@example.com");
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/analytics/category-breakdown")
+                        .queryParam("accountId", otherUser.getDefaultAccount().getId())
+                        .queryParam("dateFrom", "2026-04-01")
+                        .queryParam("dateTo", "2026-04-30")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldReturnMonthlySummaryMaintainedByTransactionWrites() {
+        User user = fixtures.createUser("monthly@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+
+        createTransaction(user, salary, new BigDecimal("1000.00"), TransactionType.INCOME, LocalDate.of(2026, 4, 1));
+        createTransaction(user, groceries, new BigDecimal("200.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 2));
+        Long removedId = createTransaction(user, groceries, new BigDecimal("30.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 2));
+        createTransaction(user, groceries, new BigDecimal("50.00"), TransactionType.EXPENSE, LocalDate.of(2026, 5, 3));
+
+        restTestClient.delete()
+                .uri("/api/v1/transactions/{id}", removedId)
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/analytics/monthly-summary")
+                        .queryParam("year", 2026)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.months.length()").isEqualTo(2)
+                .jsonPath("$.months[0].month").isEqualTo(4)
+                .jsonPath("$.months[0].totalIncome").isEqualTo(1000.00)
+                .jsonPath("$.months[0].totalExpense").isEqualTo(200.00)
+                .jsonPath("$.months[0].transactionCount").isEqualTo(2)
+                .jsonPath("$.months[1].month").isEqualTo(5)
+                .jsonPath("$.months[1].totalExpense").isEqualTo(50.00);
+    }
+
+    @Test
+    void shouldRebuildDailySummariesFromTransactions() {
+        User user = fixtures.createUser("monthly-rebuild@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("12.00"), TransactionType.EXPENSE, LocalDate.of(2026, 2, 10), "Market");
+        fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("8.00"), TransactionType.EXPENSE, LocalDate.of(2026, 2, 11), "Market");
+
+        dailyAccountSummaryRebuildJob.rebuildAll();
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/analytics/monthly-summary")
+                        .queryParam("year", 2026)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.months.length()").isEqualTo(1)
+                .jsonPath("$.months[0].month").isEqualTo(2)
+                .jsonPath("$.months[0].totalExpense").isEqualTo(20.00)
+                .jsonPath("$.months[0].transactionCount").isEqualTo(2);
+    }
+
+    private Long createTransaction(User user, Category category, BigDecimal amount, TransactionType type, LocalDate date) {
+        MultipartBodyBuilder parts = new MultipartBodyBuilder();
+        parts.part("dto", new TransactionCreateRequestDTO(amount, type, category.getId(), date, null, null), MediaType.APPLICATION_JSON);
+
+        TransactionResponseDTO response = restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(parts.build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TransactionResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(response).isNotNull();
+        return response.id();
+    }
+}
@@ -70,6 +70,48 @@ class CategoryApiTest extends BaseApiIntegrationTest {
                 .jsonPath("$[0].name").isEqualTo("Archived Food");
     }
 
+    @Test
+    void shouldReturnNotModifiedUntilCategoriesChange() {
+        User currentUser = fixtures.createUser("categories@example.com");
+        fixtures.createUserCategory(currentUser, "Active", TransactionType.EXPENSE);
+
+        String eTag = restTestClient.get()
+                .uri("/api/v1/categories")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(currentUser))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        assertThat(eTag).startsWith("W/\"");
+
+        restTestClient.get()
+                .uri("/api/v1/categories")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(currentUser))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag);
+
+        restTestClient.post()
+                .uri("/api/v1/categories")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(currentUser))
+                .body(new CreateCategoryDTO("Travel", TransactionType.EXPENSE, "plane"))
+                .exchange()
+                .expectStatus().isCreated();
+
+        restTestClient.get()
+                .uri("/api/v1/categories")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(currentUser))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"a", "salary", "salary!", "salary", "SALARY", "hafjykoyawewrryqbtuqgvdsg"})
     void shouldCreateCategory(String categoryName) {
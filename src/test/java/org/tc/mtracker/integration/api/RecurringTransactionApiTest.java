@@ -8,6 +8,8 @@ import org.tc.mtracker.account.AccountRepository;
 import org.tc.mtracker.common.enums.TransactionType;
 import org.tc.mtracker.support.base.BaseApiIntegrationTest;
 import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.transaction.recurring.RecurringTransaction;
+import org.tc.mtracker.transaction.recurring.RecurringTransactionExecutionService;
 import org.tc.mtracker.transaction.recurring.RecurringTransactionRepository;
 import org.tc.mtracker.transaction.recurring.dto.RecurringTransactionCreateRequestDTO;
 import org.tc.mtracker.transaction.recurring.enums.IntervalUnit;
@@ -30,6 +32,9 @@ class RecurringTransactionApiTest extends BaseApiIntegrationTest {
     @Autowired
     private RecurringTransactionRepository recurringTransactionRepository;
 
+    @Autowired
+    private RecurringTransactionExecutionService recurringTransactionExecutionService;
+
     private static RecurringTransactionCreateRequestDTO createRequest(
             BigDecimal amount,
             TransactionType type,
@@ -75,7 +80,39 @@ class RecurringTransactionApiTest extends BaseApiIntegrationTest {
                 .jsonPath("$.intervalUnit").isEqualTo("MONTHLY");
 
         assertThat(transactionRepository.findAll()).hasSize(1);
-        assertThat(accountRepository.findById(user.getDefaultAccount().getId()).orElseThrow().getBalance())
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void shouldReplayRecurringTransactionCreateWithSameIdempotencyKey() {
+        User user = fixtures.createUser("recurring-idempotent@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        RecurringTransactionCreateRequestDTO request = createRequest(
+                new BigDecimal("100.00"),
+                TransactionType.INCOME,
+                category.getId(),
+                LocalDate.now(),
+                "Recurring salary",
+                null,
+                IntervalUnit.MONTHLY
+        );
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            restTestClient.post()
+                    .uri("/api/v1/recurring-transactions")
+                    .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                    .header("Idempotency-Key", "recurring-salary")
+                    .body(request)
+                    .exchange()
+                    .expectStatus().isCreated()
+                    .expectBody()
+                    .jsonPath("$.nextExecutionDate").isEqualTo(LocalDate.now().plusMonths(1).toString());
+        }
+
+        assertThat(recurringTransactionRepository.findAll()).hasSize(1);
+        assertThat(transactionRepository.findAll()).hasSize(1);
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
                 .isEqualByComparingTo("100.00");
     }
 
@@ -106,10 +143,43 @@ class RecurringTransactionApiTest extends BaseApiIntegrationTest {
 
         assertThat(transactionRepository.findAll()).isEmpty();
         assertThat(recurringTransactionRepository.findAll()).hasSize(1);
-        assertThat(accountRepository.findById(user.getDefaultAccount().getId()).orElseThrow().getBalance())
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
                 .isEqualByComparingTo("0.00");
     }
 
+    @Test
+    void shouldExecuteDueRecurringTransactionsAcrossPages() {
+        User user = fixtures.createUser("recurring-execution@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            restTestClient.post()
+                    .uri("/api/v1/recurring-transactions")
+                    .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                    .body(createRequest(
+                            new BigDecimal("100.00"),
+                            TransactionType.INCOME,
+                            category.getId(),
+                            startDate,
+                            "Recurring salary " + i,
+                            null,
+                            IntervalUnit.MONTHLY
+                    ))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        recurringTransactionExecutionService.executeDueTransactions(startDate.plusMonths(1));
+        recurringTransactionExecutionService.executeDueTransactions(startDate.plusMonths(1));
+
+        assertThat(transactionRepository.findAll()).hasSize(6);
+        assertThat(recurringTransactionRepository.findAll())
+                .extracting(RecurringTransaction::getNextExecutionDate)
+                .containsOnly(startDate.plusMonths(2));
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("600.00");
+    }
+
     @Test
     void shouldRejectRecurringTransactionWithPastStartDate() {
         User user = fixtures.createUser("recurring-past@example.com");
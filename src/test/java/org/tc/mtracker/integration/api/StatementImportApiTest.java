@@ -0,0 +1,266 @@
+package org.tc.mtracker.integration.api;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.tc.mtracker.account.AccountRepository;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.support.base.BaseApiIntegrationTest;
+import org.tc.mtracker.support.factory.MultipartTestResourceFactory;
+import org.tc.mtracker.transaction.Transaction;
+import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.transaction.imports.ImportJob;
+import org.tc.mtracker.transaction.imports.ImportJobRepository;
+import org.tc.mtracker.transaction.imports.ImportJobService;
+import org.tc.mtracker.transaction.imports.ImportedTransaction;
+import org.tc.mtracker.transaction.imports.dto.ImportJobResponseDTO;
+import org.tc.mtracker.transaction.imports.dto.ImportRuleCreateRequestDTO;
+import org.tc.mtracker.transaction.imports.enums.ImportJobStatus;
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+import org.tc.mtracker.user.User;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+
+@Tag("integration")
+class StatementImportApiTest extends BaseApiIntegrationTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    private static MultipartBodyBuilder statementUpload(String filename, String content) {
+        MultipartBodyBuilder parts = new MultipartBodyBuilder();
+        parts.part("file", MultipartTestResourceFactory.resource(filename, content), MediaType.TEXT_PLAIN);
+        return parts;
+    }
+
+    @Test
+    void shouldImportCsvStatementInChunksUsingRulesAndFallbackCategories() {
+        User user = fixtures.createUser("import@example.com");
+        Category coffee = fixtures.createUserCategory(user, "Coffee", TransactionType.EXPENSE);
+        Category other = fixtures.createUserCategory(user, "Other", TransactionType.EXPENSE);
+
+        restTestClient.post()
+                .uri("/api/v1/import-rules")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new ImportRuleCreateRequestDTO("coffee", coffee.getId(), 0))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.category.id").isEqualTo(coffee.getId());
+
+        String csv = """
+                date,description,amount
+                2026-04-01,Morning COFFEE,-4.50
+                2026-04-01,Payroll,2000.00
+                2026-04-02,Hardware store,-30.00
+                not-a-date,Broken,-1.00
+                2026-04-03,Zero,0
+                """;
+
+        ImportJobResponseDTO job = restTestClient.post()
+                .uri("/api/v1/transactions/imports?format=CSV&expenseCategoryId={expenseCategoryId}", other.getId())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(statementUpload("statement.csv", csv).build())
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(ImportJobResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(job).isNotNull();
+        ImportJob finished = awaitFinished(job.id());
+
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getProcessedRows()).isEqualTo(5);
+        assertThat(finished.getImportedRows()).isEqualTo(2);
+        assertThat(finished.getSkippedRows()).isEqualTo(2);
+        assertThat(finished.getFailedRows()).isEqualTo(1);
+        assertThat(finished.getLastError()).startsWith("Line 5:");
+
+        assertThat(transactionRepository.findAll())
+                .extracting(transaction -> transaction.getCategory().getId(), Transaction::getType)
+                .containsExactlyInAnyOrder(
+                        tuple(coffee.getId(), TransactionType.EXPENSE),
+                        tuple(other.getId(), TransactionType.EXPENSE)
+                );
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("-34.50");
+    }
+
+    @Test
+    void shouldNotExposeImportJobOfAnotherUser() {
+        User owner = fixtures.createUser("import-owner@example.com");
+        User stranger = fixtures.createUser("import-stranger@example.com");
+        Category other = fixtures.createUserCategory(owner, "Other", TransactionType.EXPENSE);
+
+        ImportJobResponseDTO job = restTestClient.post()
+                .uri("/api/v1/transactions/imports?format=QIF&expenseCategoryId={expenseCategoryId}", other.getId())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(owner))
+                .body(statementUpload("statement.qif", "!Type:Bank\nD04/01/2026\nT-10.00\nPShop\n^\n").build())
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(ImportJobResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(job).isNotNull();
+        awaitFinished(job.id());
+
+        restTestClient.get()
+                .uri("/api/v1/transactions/imports/{importJobId}", job.id())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(stranger))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        restTestClient.get()
+                .uri("/api/v1/transactions/imports/{importJobId}", job.id())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(owner))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("COMPLETED")
+                .jsonPath("$.importedRows").isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectFallbackCategoryOfWrongType() {
+        User user = fixtures.createUser("import-mismatch@example.com");
+        Category salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/imports?format=CSV&expenseCategoryId={expenseCategoryId}", salary.getId())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(statementUpload("statement.csv", "date,amount\n2026-04-01,-1.00\n").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        assertThat(importJobRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void shouldFailOnlyJobsWhoseLeaseExpired() {
+        User user = fixtures.createUser("import-restart@example.com");
+        LocalDateTime expired = LocalDateTime.now().minusMinutes(1);
+        ImportJob pending = persistJob(user, ImportJobStatus.PENDING, "stopped-node", expired);
+        ImportJob running = persistJob(user, ImportJobStatus.RUNNING, "stopped-node", expired);
+        ImportJob completed = persistJob(user, ImportJobStatus.COMPLETED, "stopped-node", null);
+        ImportJob live = persistJob(user, ImportJobStatus.RUNNING, "live-node", LocalDateTime.now().plusMinutes(5));
+
+        int failed = importJobService.failExpired();
+
+        assertThat(failed).isEqualTo(2);
+        assertThat(importJobRepository.findAll())
+                .extracting(ImportJob::getId, ImportJob::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(pending.getId(), ImportJobStatus.FAILED),
+                        tuple(running.getId(), ImportJobStatus.FAILED),
+                        tuple(completed.getId(), ImportJobStatus.COMPLETED),
+                        tuple(live.getId(), ImportJobStatus.RUNNING)
+                );
+        assertThat(importJobRepository.findById(running.getId()).orElseThrow())
+                .satisfies(job -> {
+                    assertThat(job.getLastError()).contains("interrupted");
+                    assertThat(job.getFinishedAt()).isNotNull();
+                });
+
+        restTestClient.get()
+                .uri("/api/v1/transactions/imports/{importJobId}", pending.getId())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("FAILED");
+    }
+
+    @Test
+    void shouldRenewLeasesOfJobsOwnedByThisNodeOnly() {
+        User user = fixtures.createUser("import-lease@example.com");
+        ImportJob owned = importJobService.create(ImportJob.builder()
+                .user(user)
+                .account(user.getDefaultAccount())
+                .format(StatementFormat.CSV)
+                .status(ImportJobStatus.RUNNING)
+                .build());
+        owned.setLeaseExpiresAt(LocalDateTime.now().minusMinutes(1));
+        importJobRepository.save(owned);
+        ImportJob foreign = persistJob(user, ImportJobStatus.RUNNING, "stopped-node", LocalDateTime.now().minusMinutes(1));
+
+        assertThat(importJobService.renewLeases()).isEqualTo(1);
+        assertThat(importJobService.failExpired()).isEqualTo(1);
+
+        assertThat(importJobRepository.findById(owned.getId()).orElseThrow())
+                .satisfies(job -> {
+                    assertThat(job.getStatus()).isEqualTo(ImportJobStatus.RUNNING);
+                    assertThat(job.getLeaseExpiresAt()).isAfter(LocalDateTime.now());
+                });
+        assertThat(importJobRepository.findById(foreign.getId()).orElseThrow().getStatus())
+                .isEqualTo(ImportJobStatus.FAILED);
+    }
+
+    @Test
+    void shouldRejectChunksForJobWhoseLeaseWasLost() {
+        User user = fixtures.createUser("import-lost-lease@example.com");
+        Category groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        ImportJob job = importJobService.create(ImportJob.builder()
+                .user(user)
+                .account(user.getDefaultAccount())
+                .format(StatementFormat.CSV)
+                .status(ImportJobStatus.RUNNING)
+                .build());
+        job.setLeaseExpiresAt(LocalDateTime.now().minusMinutes(1));
+        importJobRepository.save(job);
+        importJobService.failExpired();
+
+        List<ImportedTransaction> rows = List.of(new ImportedTransaction(
+                LocalDate.now().minusDays(1), new BigDecimal("4.20"), TransactionType.EXPENSE, "Milk", groceries.getId()));
+
+        assertThatThrownBy(() -> importJobService.complete(job.getId(), rows, 0, 0, null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(importJobRepository.findById(job.getId()).orElseThrow())
+                .satisfies(failed -> {
+                    assertThat(failed.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+                    assertThat(failed.getImportedRows()).isZero();
+                });
+        assertThat(transactionRepository.findAll()).isEmpty();
+    }
+
+    private ImportJob persistJob(User user, ImportJobStatus status, String owner, LocalDateTime leaseExpiresAt) {
+        return importJobRepository.save(ImportJob.builder()
+                .user(user)
+                .account(user.getDefaultAccount())
+                .format(StatementFormat.CSV)
+                .status(status)
+                .owner(owner)
+                .leaseExpiresAt(leaseExpiresAt)
+                .build());
+    }
+
+    private ImportJob awaitFinished(Long importJobId) {
+        return await()
+                .atMost(Duration.ofSeconds(30))
+                .until(() -> importJobRepository.findById(importJobId).orElseThrow(),
+                        job -> job.getStatus() == ImportJobStatus.COMPLETED || job.getStatus() == ImportJobStatus.FAILED);
+    }
+}
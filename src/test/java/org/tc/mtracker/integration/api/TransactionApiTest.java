@@ -1,5 +1,8 @@
 package org.tc.mtracker.integration.api;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -9,22 +12,66 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.tc.mtracker.account.AccountBalanceCheckpointRepository;
+import org.tc.mtracker.account.AccountBalanceDeltaRepository;
+import org.tc.mtracker.account.AccountBalanceHistoryService;
+import org.tc.mtracker.account.AccountBalanceService;
 import org.tc.mtracker.account.AccountRepository;
+import org.tc.mtracker.analytics.dto.MonthlySummaryDTO;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryRepository;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryService;
 import org.tc.mtracker.category.enums.CategoryStatus;
 import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.common.storage.StorageOutboxEntry;
+import org.tc.mtracker.common.storage.StorageOutboxRepository;
 import org.tc.mtracker.support.base.BaseApiIntegrationTest;
 import org.tc.mtracker.support.factory.MultipartTestResourceFactory;
 import org.tc.mtracker.transaction.ReceiptImage;
+import org.tc.mtracker.transaction.ReceiptImageRepository;
+import org.tc.mtracker.transaction.ReceiptObject;
+import org.tc.mtracker.transaction.ReceiptObjectRepository;
 import org.tc.mtracker.transaction.Transaction;
 import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.transaction.dto.ReceiptUploadDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUploadFileDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUploadRequestDTO;
+import org.tc.mtracker.transaction.dto.ReceiptUrlsRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkDeleteRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkFilterDTO;
+import org.tc.mtracker.transaction.dto.TransactionBulkRecategorizeRequestDTO;
 import org.tc.mtracker.transaction.dto.TransactionCreateRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionCreateWithReceiptsRequestDTO;
+import org.tc.mtracker.transaction.dto.TransactionPageResponseDTO;
+import org.tc.mtracker.transaction.dto.TransactionResponseDTO;
+import org.tc.mtracker.transaction.enums.ReceiptThumbnailStatus;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataChangeRepository;
+import org.tc.mtracker.user.UserDataVersionService;
+import org.tc.mtracker.user.UserRepository;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
+import javax.imageio.ImageIO;
+import javax.sql.DataSource;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +84,48 @@ class TransactionApiTest extends BaseApiIntegrationTest {
     @Autowired
     private TransactionRepository transactionRepository;
 
+    @Autowired
+    private ReceiptImageRepository receiptImageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StorageOutboxRepository storageOutboxRepository;
+
+    @Autowired
+    private ReceiptObjectRepository receiptObjectRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDataVersionService userDataVersionService;
+
+    @Autowired
+    private UserDataChangeRepository userDataChangeRepository;
+
+    @Autowired
+    private AccountBalanceService accountBalanceService;
+
+    @Autowired
+    private AccountBalanceHistoryService accountBalanceHistoryService;
+
+    @Autowired
+    private AccountBalanceDeltaRepository accountBalanceDeltaRepository;
+
+    @Autowired
+    private AccountBalanceCheckpointRepository accountBalanceCheckpointRepository;
+
+    @Autowired
+    private DailyAccountSummaryService dailyAccountSummaryService;
+
+    @Autowired
+    private DailyAccountSummaryRepository dailyAccountSummaryRepository;
+
     private static TransactionCreateRequestDTO createRequest(
             BigDecimal amount,
             TransactionType type,
@@ -95,7 +184,7 @@ class TransactionApiTest extends BaseApiIntegrationTest {
                 .jsonPath("$.accountId").isEqualTo(user.getDefaultAccount().getId())
                 .jsonPath("$.receiptsUrls.length()").isEqualTo(0);
 
-        assertThat(accountRepository.findById(user.getDefaultAccount().getId()).orElseThrow().getBalance())
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
                 .isEqualByComparingTo(amount.toString());
         verifyNoInteractions(s3Service);
     }
@@ -125,6 +214,268 @@ class TransactionApiTest extends BaseApiIntegrationTest {
         verifyNoInteractions(s3Service);
     }
 
+    @Test
+    void shouldNotLoseBalanceUpdatesUnderConcurrentCreates() throws Exception {
+        User user = fixtures.createUser("concurrent-balance@example.com", true, new BigDecimal("10.00"));
+        var salary = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        var groceries = fixtures.createGlobalCategory("Groceries", TransactionType.EXPENSE);
+        int requests = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                boolean income = i % 2 == 0;
+                TransactionCreateRequestDTO request = createRequest(
+                        income ? new BigDecimal("3.00") : new BigDecimal("1.00"),
+                        income ? TransactionType.INCOME : TransactionType.EXPENSE,
+                        income ? salary.getId() : groceries.getId(),
+                        LocalDate.of(2026, 4, 1),
+                        "Concurrent " + i,
+                        null
+                );
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    restTestClient.post()
+                            .uri("/api/v1/transactions")
+                            .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                            .body(new TransactionCreateWithReceiptsRequestDTO(request, List.of()))
+                            .exchange()
+                            .expectStatus().isCreated();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(transactionRepository.count()).isEqualTo(requests);
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("74.00");
+    }
+
+    @Test
+    void shouldFoldConcurrentWritesToOneAccountIntoReadModelsOnCompaction() throws Exception {
+        User user = fixtures.createUser("concurrent-ledger@example.com", true, new BigDecimal("10.00"));
+        var salary = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        var groceries = fixtures.createGlobalCategory("Groceries", TransactionType.EXPENSE);
+        Long accountId = user.getDefaultAccount().getId();
+        LocalDate periodEnd = LocalDate.of(2026, 3, 31);
+        accountBalanceHistoryService.createCheckpoints(periodEnd);
+        long versionBefore = dataVersion(user);
+        int requests = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                boolean income = i % 2 == 0;
+                TransactionCreateRequestDTO request = createRequest(
+                        income ? new BigDecimal("3.00") : new BigDecimal("1.00"),
+                        income ? TransactionType.INCOME : TransactionType.EXPENSE,
+                        income ? salary.getId() : groceries.getId(),
+                        income ? LocalDate.of(2026, 3, 15) : LocalDate.of(2026, 4, 1),
+                        "Ledger " + i,
+                        null
+                );
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    restTestClient.post()
+                            .uri("/api/v1/transactions")
+                            .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                            .body(new TransactionCreateWithReceiptsRequestDTO(request, List.of()))
+                            .exchange()
+                            .expectStatus().isCreated();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LocalDate yearStart = LocalDate.of(2026, 1, 1);
+        LocalDate yearEnd = LocalDate.of(2026, 12, 31);
+        List<MonthlySummaryDTO> expectedMonths = List.of(
+                new MonthlySummaryDTO(3, new BigDecimal("48.00"), new BigDecimal("0.00"), 16L),
+                new MonthlySummaryDTO(4, new BigDecimal("0.00"), new BigDecimal("16.00"), 16L)
+        );
+        assertThat(transactionRepository.count()).isEqualTo(requests);
+        assertThat(accountBalanceDeltaRepository.count()).isEqualTo(requests);
+        assertThat(dailyAccountSummaryRepository.count()).isZero();
+        assertThat(accountRepository.findCurrentBalance(accountId).orElseThrow()).isEqualByComparingTo("42.00");
+        assertThat(dailyAccountSummaryService.sumByMonth(user.getId(), accountId, yearStart, yearEnd))
+                .usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(expectedMonths);
+        assertThat(dataVersion(user)).isEqualTo(versionBefore + requests);
+
+        assertThat(accountBalanceService.compactAccount(accountId)).isEqualTo(requests);
+        assertThat(userDataVersionService.compactUser(user.getId())).isEqualTo(requests);
+
+        assertThat(accountBalanceDeltaRepository.count()).isZero();
+        assertThat(userDataChangeRepository.count()).isZero();
+        assertThat(accountRepository.findById(accountId).orElseThrow().getBalance()).isEqualByComparingTo("42.00");
+        assertThat(accountBalanceCheckpointRepository.findLatestOnOrBefore(accountId, periodEnd).orElseThrow().getBalance())
+                .isEqualByComparingTo("58.00");
+        assertThat(dailyAccountSummaryRepository.sumByMonth(user.getId(), accountId, yearStart, yearEnd))
+                .usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(expectedMonths);
+        assertThat(dataVersion(user)).isEqualTo(versionBefore + requests);
+    }
+
+    @Test
+    void shouldReplayConcurrentCreatesWithSameIdempotencyKey() throws Exception {
+        User user = fixtures.createUser("idempotent-create@example.com", true, new BigDecimal("10.00"));
+        var salary = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        TransactionCreateWithReceiptsRequestDTO request = new TransactionCreateWithReceiptsRequestDTO(
+                createRequest(new BigDecimal("3.00"), TransactionType.INCOME, salary.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                List.of()
+        );
+        int retries = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(retries);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Long> ids = new ArrayList<>(retries);
+        try {
+            List<Future<TransactionResponseDTO>> futures = new ArrayList<>(retries);
+            for (int i = 0; i < retries; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return restTestClient.post()
+                            .uri("/api/v1/transactions")
+                            .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                            .header("Idempotency-Key", "create-salary-1")
+                            .body(request)
+                            .exchange()
+                            .expectStatus().isCreated()
+                            .expectBody(TransactionResponseDTO.class)
+                            .returnResult()
+                            .getResponseBody();
+                }));
+            }
+            start.countDown();
+            for (Future<TransactionResponseDTO> future : futures) {
+                ids.add(future.get(60, TimeUnit.SECONDS).id());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).containsOnly(ids.getFirst());
+        assertThat(transactionRepository.count()).isEqualTo(1);
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("13.00");
+    }
+
+    @Test
+    void shouldRejectIdempotencyKeyReusedForDifferentRequest() {
+        User user = fixtures.createUser("idempotent-reuse@example.com");
+        var salary = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header("Idempotency-Key", "create-salary-2")
+                .body(new TransactionCreateWithReceiptsRequestDTO(
+                        createRequest(new BigDecimal("3.00"), TransactionType.INCOME, salary.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                        List.of()))
+                .exchange()
+                .expectStatus().isCreated();
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header("Idempotency-Key", "create-salary-2")
+                .body(new TransactionCreateWithReceiptsRequestDTO(
+                        createRequest(new BigDecimal("4.00"), TransactionType.INCOME, salary.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                        List.of()))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("idempotency_key_reused");
+
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectIdempotencyKeyReusedWithDifferentReceiptContent() {
+        User user = fixtures.createUser("idempotent-receipt@example.com");
+        var salary = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        when(s3Service.generatePresignedUrl(anyString())).thenReturn("https://test-bucket.local/receipt.jpg");
+        TransactionCreateRequestDTO request =
+                createRequest(new BigDecimal("15.00"), TransactionType.INCOME, salary.getId(), LocalDate.of(2026, 4, 1), "Salary", null);
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header("Idempotency-Key", "create-salary-receipt")
+                .body(createMultipartRequest(request, MultipartTestResourceFactory.resource("receipt.jpg", "image-a"), MediaType.IMAGE_JPEG).build())
+                .exchange()
+                .expectStatus().isCreated();
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header("Idempotency-Key", "create-salary-receipt")
+                .body(createMultipartRequest(request, MultipartTestResourceFactory.resource("receipt.jpg", "image-b"), MediaType.IMAGE_JPEG).build())
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("idempotency_key_reused");
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header("Idempotency-Key", "create-salary-receipt")
+                .body(createMultipartRequest(request, MultipartTestResourceFactory.resource("renamed.jpg", "image-a"), MediaType.IMAGE_JPEG).build())
+                .exchange()
+                .expectStatus().isCreated();
+
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPresignReceiptUrlsAgainWhenReplayingIdempotentCreate() {
+        User user = fixtures.createUser("idempotent-receipt-urls@example.com");
+        var salary = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        when(s3Service.generatePresignedUrl(anyString()))
+                .thenReturn("https://test-bucket.local/receipt.jpg?signature=first")
+                .thenReturn("https://test-bucket.local/receipt.jpg?signature=second");
+        TransactionCreateRequestDTO request =
+                createRequest(new BigDecimal("15.00"), TransactionType.INCOME, salary.getId(), LocalDate.of(2026, 4, 1), "Salary", null);
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header("Idempotency-Key", "create-salary-receipt-urls")
+                .body(createMultipartRequest(request, MultipartTestResourceFactory.resource("receipt.jpg", "image-a"), MediaType.IMAGE_JPEG).build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.receiptsUrls[0]").isEqualTo("https://test-bucket.local/receipt.jpg?signature=first");
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header("Idempotency-Key", "create-salary-receipt-urls")
+                .body(createMultipartRequest(request, MultipartTestResourceFactory.resource("receipt.jpg", "image-a"), MediaType.IMAGE_JPEG).build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.receiptsUrls.length()").isEqualTo(1)
+                .jsonPath("$.receiptsUrls[0]").isEqualTo("https://test-bucket.local/receipt.jpg?signature=second");
+
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
     @Test
     void shouldCreateTransactionWithReceipt() {
         User user = fixtures.createUser("receipts@example.com");
@@ -154,8 +505,247 @@ class TransactionApiTest extends BaseApiIntegrationTest {
                 .jsonPath("$.receiptsUrls.length()").isEqualTo(1)
                 .jsonPath("$.receiptsUrls[0]").isEqualTo("https://test-bucket.local/receipt.jpg");
 
-        verify(s3Service).saveFile(anyString(), any());
+        verify(s3Service).saveContentAddressedFiles(anyMap());
         verify(s3Service).generatePresignedUrl(anyString());
+        assertThat(storageOutboxRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void shouldStoreIdenticalReceiptsOnceAndReleaseThemOnDelete() {
+        User user = fixtures.createUser("receipts-dedup@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        when(s3Service.generatePresignedUrl(anyString())).thenReturn("https://test-bucket.local/receipt.jpg");
+
+        for (int i = 0; i < 2; i++) {
+            restTestClient.post()
+                    .uri("/api/v1/transactions")
+                    .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                    .body(createMultipartRequest(
+                            createRequest(new BigDecimal("15.00"), TransactionType.INCOME, category.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                            MultipartTestResourceFactory.jpegImage("receipt.jpg"),
+                            MediaType.IMAGE_JPEG
+                    ).build())
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        verify(s3Service, times(1)).saveContentAddressedFiles(anyMap());
+        assertThat(receiptImageRepository.findAll())
+                .hasSize(2)
+                .extracting(ReceiptImage::getContentHash)
+                .doesNotContainNull()
+                .containsOnly(receiptImageRepository.findAll().getFirst().getContentHash());
+        assertThat(receiptObjectRepository.findAll())
+                .singleElement()
+                .satisfies(object -> {
+                    assertThat(object.isStored()).isTrue();
+                    assertThat(object.getReferenceCount()).isEqualTo(2);
+                });
+
+        restTestClient.delete()
+                .uri("/api/v1/transactions/{id}", transactionRepository.findAll().getFirst().getId())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(receiptObjectRepository.findAll())
+                .singleElement()
+                .extracting(ReceiptObject::getReferenceCount)
+                .isEqualTo(1);
+        assertThat(storageOutboxRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void shouldUploadReceiptWithoutHoldingReceiptObjectLock() {
+        User user = fixtures.createUser("receipts-unlocked@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        when(s3Service.generatePresignedUrl(anyString())).thenReturn("https://test-bucket.local/receipt.jpg");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        AtomicReference<List<String>> lockableDuringUpload = new AtomicReference<>();
+        doAnswer(invocation -> {
+            lockableDuringUpload.set(jdbcTemplate.queryForList(
+                    "SELECT content_hash FROM receipt_objects FOR UPDATE NOWAIT", String.class));
+            return null;
+        }).when(s3Service).saveContentAddressedFiles(anyMap());
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(createMultipartRequest(
+                        createRequest(new BigDecimal("15.00"), TransactionType.INCOME, category.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                        MultipartTestResourceFactory.jpegImage("receipt.jpg"),
+                        MediaType.IMAGE_JPEG
+                ).build())
+                .exchange()
+                .expectStatus().isCreated();
+
+        assertThat(lockableDuringUpload.get())
+                .containsExactly(receiptImageRepository.findAll().getFirst().getContentHash());
+        assertThat(receiptObjectRepository.findAll())
+                .singleElement()
+                .satisfies(object -> {
+                    assertThat(object.isStored()).isTrue();
+                    assertThat(object.getReferenceCount()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void shouldLeaveUnreferencedReceiptObjectWhenReceiptUploadFails() {
+        User user = fixtures.createUser("receipts-failed@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        doThrow(new IllegalStateException("storage unavailable")).when(s3Service).saveContentAddressedFiles(anyMap());
+
+        MultipartBodyBuilder parts = createMultipartRequest(
+                createRequest(
+                        new BigDecimal("15.00"),
+                        TransactionType.INCOME,
+                        category.getId(),
+                        LocalDate.of(2026, 4, 1),
+                        "Salary",
+                        null
+                ),
+                MultipartTestResourceFactory.jpegImage("receipt.jpg"),
+                MediaType.IMAGE_JPEG
+        );
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(parts.build())
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        assertThat(transactionRepository.findAll()).isEmpty();
+        assertThat(receiptObjectRepository.findAll())
+                .singleElement()
+                .satisfies(object -> {
+                    assertThat(object.isStored()).isFalse();
+                    assertThat(object.getReferenceCount()).isZero();
+                });
+    }
+
+    @Test
+    void shouldNotDeleteReceiptObjectStoredByConcurrentTransactionWhenUploadFails() {
+        User user = fixtures.createUser("receipts-shared-failed@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        doAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE receipt_objects SET stored = TRUE, reference_count = 1");
+            throw new IllegalStateException("storage unavailable");
+        }).when(s3Service).saveContentAddressedFiles(anyMap());
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(createMultipartRequest(
+                        createRequest(new BigDecimal("15.00"), TransactionType.INCOME, category.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                        MultipartTestResourceFactory.jpegImage("receipt.jpg"),
+                        MediaType.IMAGE_JPEG
+                ).build())
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        assertThat(transactionRepository.findAll()).isEmpty();
+        assertThat(receiptObjectRepository.findAll())
+                .singleElement()
+                .satisfies(object -> {
+                    assertThat(object.isStored()).isTrue();
+                    assertThat(object.getReferenceCount()).isEqualTo(1);
+                });
+        verify(s3Service, never()).deleteFiles(anyCollection());
+        verify(s3Service, never()).deleteFile(anyString());
+        assertThat(storageOutboxRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void shouldCreateTransactionWithDirectlyUploadedReceipt() {
+        User user = fixtures.createUser("receipts-direct@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        when(s3Service.generatePresignedUploadUrl(anyString(), eq("image/png"), eq(1024L), any()))
+                .thenReturn("https://test-bucket.local/upload");
+        when(s3Service.generatePresignedUrl(anyString())).thenReturn("https://test-bucket.local/receipt.png");
+
+        ReceiptUploadDTO[] uploads = restTestClient.post()
+                .uri("/api/v1/transactions/receipts/uploads")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new ReceiptUploadRequestDTO(List.of(new ReceiptUploadFileDTO("image/png", 1024))))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ReceiptUploadDTO[].class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(uploads).hasSize(1);
+        assertThat(uploads[0].uploadUrl()).isEqualTo("https://test-bucket.local/upload");
+        assertThat(storageOutboxRepository.findAll()).hasSize(1);
+        UUID receiptId = uploads[0].receiptId();
+        when(s3Service.findFile("receipts/" + receiptId))
+                .thenReturn(Optional.of(HeadObjectResponse.builder().contentLength(1024L).contentType("image/png").build()));
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new TransactionCreateWithReceiptsRequestDTO(
+                        createRequest(new BigDecimal("15.00"), TransactionType.INCOME, category.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                        List.of(receiptId)
+                ))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.receiptsUrls.length()").isEqualTo(1)
+                .jsonPath("$.receiptsUrls[0]").isEqualTo("https://test-bucket.local/receipt.png");
+
+        verify(s3Service, never()).saveContentAddressedFiles(anyMap());
+        assertThat(receiptImageRepository.findById(receiptId)).isPresent();
+        assertThat(storageOutboxRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectUploadedReceiptMissingFromStorage() {
+        User user = fixtures.createUser("receipts-direct-missing@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+
+        ReceiptUploadDTO[] uploads = restTestClient.post()
+                .uri("/api/v1/transactions/receipts/uploads")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new ReceiptUploadRequestDTO(List.of(new ReceiptUploadFileDTO("application/pdf", 2048))))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ReceiptUploadDTO[].class)
+                .returnResult()
+                .getResponseBody();
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new TransactionCreateWithReceiptsRequestDTO(
+                        createRequest(new BigDecimal("15.00"), TransactionType.INCOME, category.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                        List.of(uploads[0].receiptId())
+                ))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("invalid_receipt_upload");
+
+        assertThat(transactionRepository.findAll()).isEmpty();
+        assertThat(storageOutboxRepository.findAll())
+                .singleElement()
+                .satisfies(entry -> assertThat(entry.getObjectKey()).isEqualTo("receipts/" + uploads[0].receiptId()));
+    }
+
+    @Test
+    void shouldRejectReceiptUploadWithUnsupportedType() {
+        User user = fixtures.createUser("receipts-direct-type@example.com");
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/receipts/uploads")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new ReceiptUploadRequestDTO(List.of(new ReceiptUploadFileDTO("image/gif", 1024))))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(s3Service);
+        assertThat(storageOutboxRepository.findAll()).isEmpty();
     }
 
     @Test
@@ -187,10 +777,141 @@ class TransactionApiTest extends BaseApiIntegrationTest {
                 .jsonPath("$.receiptsUrls.length()").isEqualTo(1)
                 .jsonPath("$.receiptsUrls[0]").isEqualTo("https://test-bucket.local/receipt.webp");
 
-        verify(s3Service).saveFile(anyString(), any());
+        verify(s3Service).saveContentAddressedFiles(anyMap());
         verify(s3Service).generatePresignedUrl(anyString());
     }
 
+    @Test
+    void shouldBulkCreateTransactionsAndApplyBalancesPerAccount() {
+        User user = fixtures.createUser("bulk@example.com");
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var savings = fixtures.createAccount(user, new BigDecimal("100.00"));
+        TransactionBulkCreateRequestDTO request = new TransactionBulkCreateRequestDTO(List.of(
+                createRequest(new BigDecimal("500.00"), TransactionType.INCOME, salary.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                createRequest(new BigDecimal("40.00"), TransactionType.EXPENSE, groceries.getId(), LocalDate.of(2026, 4, 1), "Groceries", null),
+                createRequest(new BigDecimal("25.00"), TransactionType.EXPENSE, groceries.getId(), LocalDate.of(2026, 4, 2), "Groceries", savings.getId())
+        ));
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/bulk")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.createdCount").isEqualTo(3)
+                .jsonPath("$.transactionIds.length()").isEqualTo(3);
+
+        assertThat(transactionRepository.findAll()).hasSize(3);
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("460.00");
+        assertThat(accountRepository.findCurrentBalance(savings.getId()).orElseThrow())
+                .isEqualByComparingTo("75.00");
+    }
+
+    @Test
+    void shouldRejectWholeBulkCreateWhenAnyTransactionInvalid() {
+        User user = fixtures.createUser("bulk-invalid@example.com");
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        TransactionBulkCreateRequestDTO request = new TransactionBulkCreateRequestDTO(List.of(
+                createRequest(new BigDecimal("500.00"), TransactionType.INCOME, salary.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                createRequest(new BigDecimal("40.00"), TransactionType.EXPENSE, salary.getId(), LocalDate.of(2026, 4, 1), "Mismatch", null)
+        ));
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/bulk")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(request)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        assertThat(transactionRepository.findAll()).isEmpty();
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void shouldRecategorizeTransactionsMatchingFilterInChunks() {
+        User user = fixtures.createUser("bulk-recategorize@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var food = fixtures.createUserCategory(user, "Food", TransactionType.EXPENSE);
+        for (int day = 1; day <= 3; day++) {
+            fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("10.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, day), "Groceries");
+        }
+        Transaction outsideRange = fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("10.00"), TransactionType.EXPENSE, LocalDate.of(2026, 5, 1), "Groceries");
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/bulk/recategorize")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new TransactionBulkRecategorizeRequestDTO(
+                        new TransactionBulkFilterDTO(null, groceries.getId(), null, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30)),
+                        food.getId()
+                ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.affectedCount").isEqualTo(3);
+
+        assertThat(transactionRepository.findAll())
+                .allSatisfy(transaction -> assertThat(transaction.getCategory().getId())
+                        .isEqualTo(transaction.getId().equals(outsideRange.getId()) ? groceries.getId() : food.getId()));
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("-40.00");
+    }
+
+    @Test
+    void shouldSoftDeleteTransactionsMatchingFilterAndCorrectBalances() {
+        User user = fixtures.createUser("bulk-delete@example.com");
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var savings = fixtures.createAccount(user, BigDecimal.ZERO);
+        fixtures.createTransaction(user, user.getDefaultAccount(), salary, new BigDecimal("500.00"), TransactionType.INCOME, LocalDate.of(2026, 4, 1), "Salary");
+        fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("40.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 2), "Groceries");
+        fixtures.createTransaction(user, savings, groceries, new BigDecimal("25.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 3), "Groceries");
+        Transaction kept = fixtures.createTransaction(user, savings, salary, new BigDecimal("100.00"), TransactionType.INCOME, LocalDate.of(2026, 5, 1), "Bonus");
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/bulk/delete")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new TransactionBulkDeleteRequestDTO(
+                        new TransactionBulkFilterDTO(null, null, null, LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30))
+                ))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.affectedCount").isEqualTo(3);
+
+        assertThat(transactionRepository.findAll())
+                .filteredOn(transaction -> transaction.getDeletedAt() == null)
+                .extracting(Transaction::getId)
+                .containsExactly(kept.getId());
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
+                .isEqualByComparingTo("0.00");
+        assertThat(accountRepository.findCurrentBalance(savings.getId()).orElseThrow())
+                .isEqualByComparingTo("100.00");
+
+        restTestClient.get()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectBulkDeleteWithoutFilter() {
+        User user = fixtures.createUser("bulk-delete-empty@example.com");
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/bulk/delete")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new TransactionBulkDeleteRequestDTO(new TransactionBulkFilterDTO(null, null, null, null, null)))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void shouldRejectArchivedCategory() {
         User user = fixtures.createUser("archived-category@example.com");
@@ -237,9 +958,9 @@ class TransactionApiTest extends BaseApiIntegrationTest {
                 .exchange()
                 .expectStatus().isOk()
                 .expectBody()
-                .jsonPath("$.length()").isEqualTo(1)
-                .jsonPath("$[0].id").isEqualTo(expected.getId())
-                .jsonPath("$[0].amount").isEqualTo(40.00);
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].id").isEqualTo(expected.getId())
+                .jsonPath("$.items[0].amount").isEqualTo(40.00);
     }
 
     @Test
@@ -265,9 +986,224 @@ class TransactionApiTest extends BaseApiIntegrationTest {
                 .exchange()
                 .expectStatus().isOk()
                 .expectBody()
-                .jsonPath("$.length()").isEqualTo(1)
-                .jsonPath("$[0].id").isEqualTo(expected.getId())
-                .jsonPath("$[0].amount").isEqualTo(25.00);
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].id").isEqualTo(expected.getId())
+                .jsonPath("$.items[0].amount").isEqualTo(25.00);
+    }
+
+    @Test
+    void shouldPageTransactionsWithCursor() {
+        User user = fixtures.createUser("paging@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        Transaction newest = fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("30.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 3), "Groceries");
+        Transaction middle = fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("20.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 2), "Groceries");
+        Transaction oldest = fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("10.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 1), "Groceries");
+
+        TransactionPageResponseDTO firstPage = restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions")
+                        .queryParam("limit", 2)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TransactionPageResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(firstPage).isNotNull();
+        assertThat(firstPage.items())
+                .extracting(TransactionResponseDTO::id)
+                .containsExactly(newest.getId(), middle.getId());
+        assertThat(firstPage.nextCursor()).isNotBlank();
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions")
+                        .queryParam("limit", 2)
+                        .queryParam("cursor", firstPage.nextCursor())
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].id").isEqualTo(oldest.getId())
+                .jsonPath("$.nextCursor").doesNotExist();
+    }
+
+    @Test
+    void shouldSearchTransactionsByDescription() {
+        User user = fixtures.createUser("search@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var coffee = fixtures.createUserCategory(user, "Coffee", TransactionType.EXPENSE);
+        Transaction beans = fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("18.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 3), "Coffee beans from the market");
+        Transaction cafe = fixtures.createTransaction(user, user.getDefaultAccount(), coffee, new BigDecimal("4.50"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 2), "Flat white coffee");
+        fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("60.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 1), "Weekly groceries");
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions")
+                        .queryParam("q", "coffee")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[0].id").isEqualTo(beans.getId())
+                .jsonPath("$.items[1].id").isEqualTo(cafe.getId());
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions")
+                        .queryParam("q", "coff")
+                        .queryParam("categoryId", coffee.getId())
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.items[0].id").isEqualTo(cafe.getId());
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions")
+                        .queryParam("q", "coffee weekly")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(0);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        User user = fixtures.createUser("paging-cursor@example.com");
+
+        restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions")
+                        .queryParam("cursor", "not-a-cursor")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("invalid_cursor");
+    }
+
+    @Test
+    void shouldListTransactionsWithConstantStatementCountRegardlessOfPageSize() {
+        User user = fixtures.createUser("statements@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var rent = fixtures.createUserCategory(user, "Rent", TransactionType.EXPENSE);
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        for (int day = 1; day <= 12; day++) {
+            var category = day % 3 == 0 ? salary : day % 3 == 1 ? groceries : rent;
+            TransactionType type = day % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+            Transaction transaction = fixtures.createTransaction(user, user.getDefaultAccount(), category, new BigDecimal("10.00"), type, LocalDate.of(2026, 4, day), "Transaction " + day);
+            transaction.getReceipts().add(new ReceiptImage(UUID.randomUUID(), transaction));
+            transaction.getReceipts().add(new ReceiptImage(UUID.randomUUID(), transaction));
+            transactionRepository.saveAndFlush(transaction);
+        }
+
+        long smallPageStatements = countStatementsForTransactionPage(user, 2);
+        long largePageStatements = countStatementsForTransactionPage(user, 12);
+
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+    }
+
+    private long dataVersion(User user) {
+        String dataVersion = userRepository.findDataVersionByEmail(user.getEmail()).orElseThrow();
+        return Long.parseLong(dataVersion.substring(dataVersion.indexOf('-') + 1));
+    }
+
+    private long countStatementsForTransactionPage(User user, int limit) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        TransactionPageResponseDTO page = restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions")
+                        .queryParam("limit", limit)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(TransactionPageResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(page).isNotNull();
+        assertThat(page.items()).hasSize(limit);
+        assertThat(page.items()).allSatisfy(item -> assertThat(item.receiptsUrls()).hasSize(2));
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void shouldExportFilteredTransactionsAsCsv() {
+        User user = fixtures.createUser("export@example.com");
+        var groceries = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        Transaction expense = fixtures.createTransaction(user, user.getDefaultAccount(), groceries, new BigDecimal("12.50"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 2), "Milk, bread");
+        fixtures.createTransaction(user, user.getDefaultAccount(), salary, new BigDecimal("100.00"), TransactionType.INCOME, LocalDate.of(2026, 4, 1), "Salary");
+
+        String csv = restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions/export")
+                        .queryParam("type", TransactionType.EXPENSE)
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(csv).isNotNull();
+        assertThat(csv.lines().toList()).containsExactly(
+                "id,date,type,amount,account_id,category_id,category,description,created_at",
+                "%d,2026-04-02,EXPENSE,12.50,%d,%d,Groceries,\"Milk, bread\",%s".formatted(
+                        expense.getId(),
+                        user.getDefaultAccount().getId(),
+                        groceries.getId(),
+                        transactionRepository.findById(expense.getId()).orElseThrow().getCreatedAt()
+                )
+        );
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    void shouldExportTransactionsAsNdjson() {
+        User user = fixtures.createUser("export-ndjson@example.com");
+        var salary = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        fixtures.createTransaction(user, user.getDefaultAccount(), salary, new BigDecimal("100.00"), TransactionType.INCOME, LocalDate.of(2026, 4, 1), "Salary \"April\"");
+        fixtures.createTransaction(user, user.getDefaultAccount(), salary, new BigDecimal("90.00"), TransactionType.INCOME, LocalDate.of(2026, 3, 1), null);
+
+        String ndjson = restTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/transactions/export")
+                        .queryParam("format", "NDJSON")
+                        .build())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(ndjson).isNotNull();
+        assertThat(ndjson.lines().toList())
+                .hasSize(2)
+                .satisfiesExactly(
+                        first -> assertThat(first).contains("\"amount\":100.00", "\"description\":\"Salary \\\"April\\\"\""),
+                        second -> assertThat(second).contains("\"amount\":90.00", "\"description\":null")
+                );
     }
 
     @Test
@@ -377,9 +1313,9 @@ class TransactionApiTest extends BaseApiIntegrationTest {
                 .expectBody()
                 .jsonPath("$.accountId").isEqualTo(savings.getId());
 
-        assertThat(accountRepository.findById(user.getDefaultAccount().getId()).orElseThrow().getBalance())
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
                 .isEqualByComparingTo("100.00");
-        assertThat(accountRepository.findById(savings.getId()).orElseThrow().getBalance())
+        assertThat(accountRepository.findCurrentBalance(savings.getId()).orElseThrow())
                 .isEqualByComparingTo("-30.00");
     }
 
@@ -406,9 +1342,171 @@ class TransactionApiTest extends BaseApiIntegrationTest {
                 .exchange()
                 .expectStatus().isNoContent();
 
-        assertThat(accountRepository.findById(user.getDefaultAccount().getId()).orElseThrow().getBalance())
+        assertThat(accountRepository.findCurrentBalance(user.getDefaultAccount().getId()).orElseThrow())
                 .isEqualByComparingTo("0.00");
         assertThat(transactionRepository.findById(transaction.getId())).isEmpty();
-        verify(s3Service).deleteFile("receipts/" + receiptId);
+        assertThat(storageOutboxRepository.findAll())
+                .extracting(StorageOutboxEntry::getObjectKey)
+                .containsExactlyInAnyOrder("receipts/" + receiptId, "receipts/" + receiptId + "-thumbnail");
+        verify(s3Service, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void shouldReturnNotModifiedUntilTransactionsChange() {
+        User user = fixtures.createUser("etag-transactions@example.com");
+        var category = fixtures.createUserCategory(user, "Salary", TransactionType.INCOME);
+        Transaction transaction = fixtures.createTransaction(
+                user,
+                user.getDefaultAccount(),
+                category,
+                new BigDecimal("30.00"),
+                TransactionType.INCOME,
+                LocalDate.of(2026, 4, 1),
+                "Salary"
+        );
+
+        String eTag = restTestClient.get()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+
+        restTestClient.get()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        restTestClient.delete()
+                .uri("/api/v1/transactions/{id}", transaction.getId())
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        restTestClient.get()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, value -> assertThat(value).isNotEqualTo(eTag))
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(0);
+    }
+
+    @Test
+    void shouldListCompactTransactionsWithoutPresigningReceipts() {
+        User user = fixtures.createUser("compact-transactions@example.com");
+        var category = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        Transaction withReceipts = fixtures.createTransaction(user, user.getDefaultAccount(), category, new BigDecimal("40.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 10), "Market");
+        fixtures.createTransaction(user, user.getDefaultAccount(), category, new BigDecimal("15.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 9), "Bakery");
+        UUID firstReceiptId = UUID.randomUUID();
+        UUID secondReceiptId = UUID.randomUUID();
+        withReceipts.getReceipts().add(new ReceiptImage(firstReceiptId, withReceipts));
+        withReceipts.getReceipts().add(new ReceiptImage(secondReceiptId, withReceipts));
+        transactionRepository.saveAndFlush(withReceipts);
+
+        restTestClient.get()
+                .uri("/api/v1/transactions/compact")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.items[0].id").isEqualTo(withReceipts.getId())
+                .jsonPath("$.items[0].receiptIds.length()").isEqualTo(2)
+                .jsonPath("$.items[0].receiptsUrls").doesNotExist()
+                .jsonPath("$.items[1].receiptIds.length()").isEqualTo(0);
+
+        verify(s3Service, never()).generatePresignedUrl(anyString());
+    }
+
+    @Test
+    void shouldPresignOnlyOwnedReceipts() {
+        User user = fixtures.createUser("receipt-urls@example.com");
+        User otherUser = fixtures.createUser("receipt-urls-other@example.com");
+        var category = fixtures.createUserCategory(user, "Groceries", TransactionType.EXPENSE);
+        var otherCategory = fixtures.createUserCategory(otherUser, "Groceries", TransactionType.EXPENSE);
+        Transaction owned = fixtures.createTransaction(user, user.getDefaultAccount(), category, new BigDecimal("40.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 10), "Market");
+        Transaction foreign = fixtures.createTransaction(otherUser, otherUser.getDefaultAccount(), otherCategory, new BigDecimal("40.00"), TransactionType.EXPENSE, LocalDate.of(2026, 4, 10), "Market");
+        UUID ownedReceiptId = UUID.randomUUID();
+        UUID foreignReceiptId = UUID.randomUUID();
+        owned.getReceipts().add(new ReceiptImage(ownedReceiptId, owned));
+        foreign.getReceipts().add(new ReceiptImage(foreignReceiptId, foreign));
+        transactionRepository.saveAndFlush(owned);
+        transactionRepository.saveAndFlush(foreign);
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/receipts/urls")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new ReceiptUrlsRequestDTO(List.of(ownedReceiptId, foreignReceiptId, UUID.randomUUID())))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].receiptId").isEqualTo(ownedReceiptId.toString())
+                .jsonPath("$[0].url").isEqualTo("https://test-bucket.local/receipts/" + ownedReceiptId);
+    }
+
+    @Test
+    void shouldRejectEmptyReceiptUrlRequest() {
+        User user = fixtures.createUser("receipt-urls-empty@example.com");
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/receipts/urls")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new ReceiptUrlsRequestDTO(List.of()))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldGenerateReceiptThumbnailAfterCommitAndExposeItsUrl() throws IOException {
+        User user = fixtures.createUser("receipt-thumbnails@example.com");
+        var category = fixtures.createGlobalCategory("Salary", TransactionType.INCOME);
+        when(s3Service.readFile(anyString())).thenReturn(pngImage(1200, 900));
+        when(s3Service.generatePresignedUrl(anyString()))
+                .thenAnswer(invocation -> "https://test-bucket.local/" + invocation.getArgument(0));
+
+        MultipartBodyBuilder parts = createMultipartRequest(
+                createRequest(new BigDecimal("15.00"), TransactionType.INCOME, category.getId(), LocalDate.of(2026, 4, 1), "Salary", null),
+                MultipartTestResourceFactory.pngImage("receipt.png"),
+                MediaType.IMAGE_PNG
+        );
+
+        restTestClient.post()
+                .uri("/api/v1/transactions")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(parts.build())
+                .exchange()
+                .expectStatus().isCreated();
+
+        ReceiptImage receipt = receiptImageRepository.findAll().getFirst();
+        UUID receiptId = receipt.getId();
+        String objectKey = "receipts/sha256/" + receipt.getContentHash();
+        await().untilAsserted(() -> assertThat(receiptImageRepository.findById(receiptId).orElseThrow().getThumbnailStatus())
+                .isEqualTo(ReceiptThumbnailStatus.READY));
+        verify(s3Service).saveFile(eq(objectKey + "-thumbnail"), any(byte[].class), eq("image/webp"));
+
+        restTestClient.post()
+                .uri("/api/v1/transactions/receipts/urls")
+                .header(HttpHeaders.AUTHORIZATION, authHeader(user))
+                .body(new ReceiptUrlsRequestDTO(List.of(receiptId)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].url").isEqualTo("https://test-bucket.local/" + objectKey)
+                .jsonPath("$[0].thumbnailUrl").isEqualTo("https://test-bucket.local/" + objectKey + "-thumbnail");
+    }
+
+    private static byte[] pngImage(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
     }
 }
@@ -0,0 +1,241 @@
+package org.tc.mtracker.integration.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.tc.mtracker.category.Category;
+import org.tc.mtracker.category.CategoryRepository;
+import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.support.base.BaseRepositoryIntegrationTest;
+import org.tc.mtracker.support.jdbc.StatementCapture;
+import org.tc.mtracker.support.jdbc.StatementCapture.CapturedStatement;
+import org.tc.mtracker.support.jdbc.StatementCaptureConfiguration;
+import org.tc.mtracker.transaction.TransactionRepository;
+import org.tc.mtracker.transaction.dto.TransactionExportRow;
+import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StatementCaptureConfiguration.class)
+class TransactionQueryPlanTest extends BaseRepositoryIntegrationTest {
+
+    private static final Pattern TRANSACTIONS_TABLE =
+            Pattern.compile("(?i)\\b(?:from|update)\\s+transactions\\b(?:\\s+(?!set\\b|where\\b)(\\w+))?");
+    private static final LocalDate CURSOR_DATE = LocalDate.of(2025, 6, 1);
+    private static final LocalDateTime CURSOR_CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final PageRequest PAGE = PageRequest.of(0, 51);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SeededIds ids;
+
+    static Stream<String> repositoryQueries() {
+        return Stream.of(
+                "findActiveByIdAndUser",
+                "findAllByUserAndFilters",
+                "findAllByUserAndFilters[account]",
+                "findAllByUserAndFilters[category]",
+                "findAllByUserAndFilters[type]",
+                "findAllByUserAndFilters[dateRange]",
+                "findAllByUserAndFilters[cursor]",
+                "findAllByUserAndFilters[allFilters]",
+                "searchAllByUserAndFilters",
+                "streamExportRowsByUserAndFilters",
+                "countByUserAndCategory",
+                "reassignCategory"
+        ).sorted();
+    }
+
+    private Map<String, QueryPlanCase> queries() {
+        return Map.ofEntries(
+                Map.entry("findActiveByIdAndUser", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findActiveByIdAndUser(ids.transactionId(), seeded.user()))),
+                Map.entry("findAllByUserAndFilters", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findAllByUserAndFilters(
+                                seeded.user(), null, null, null, null, null, null, null, null, PAGE))),
+                Map.entry("findAllByUserAndFilters[account]", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findAllByUserAndFilters(
+                                seeded.user(), ids.accountId(), null, null, null, null, null, null, null, PAGE))),
+                Map.entry("findAllByUserAndFilters[category]", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findAllByUserAndFilters(
+                                seeded.user(), null, ids.categoryId(), null, null, null, null, null, null, PAGE))),
+                Map.entry("findAllByUserAndFilters[type]", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findAllByUserAndFilters(
+                                seeded.user(), null, null, TransactionType.EXPENSE, null, null, null, null, null, PAGE))),
+                Map.entry("findAllByUserAndFilters[dateRange]", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findAllByUserAndFilters(
+                                seeded.user(), null, null, null, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 5, 31),
+                                null, null, null, PAGE))),
+                Map.entry("findAllByUserAndFilters[cursor]", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findAllByUserAndFilters(
+                                seeded.user(), null, null, null, null, null,
+                                CURSOR_DATE, CURSOR_CREATED_AT, ids.transactionId(), PAGE))),
+                Map.entry("findAllByUserAndFilters[allFilters]", new QueryPlanCase(true, seeded ->
+                        transactionRepository.findAllByUserAndFilters(
+                                seeded.user(), ids.accountId(), ids.categoryId(), TransactionType.EXPENSE,
+                                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), null, null, null, PAGE))),
+                Map.entry("searchAllByUserAndFilters", new QueryPlanCase(false, seeded ->
+                        transactionRepository.searchAllByUserAndFilters(
+                                seeded.user(), "+seeded*", null, null, null, null, null, null, null, null, PAGE))),
+                Map.entry("streamExportRowsByUserAndFilters", new QueryPlanCase(true, seeded -> {
+                    try (Stream<TransactionExportRow> rows = transactionRepository.streamExportRowsByUserAndFilters(
+                            seeded.user(), null, null, null, null, null)) {
+                        rows.forEach(row -> {
+                        });
+                    }
+                })),
+                Map.entry("countByUserAndCategory", new QueryPlanCase(true, seeded ->
+                        transactionRepository.countByUserAndCategory(seeded.user(), seeded.category()))),
+                Map.entry("reassignCategory", new QueryPlanCase(true, seeded ->
+                        transactionRepository.reassignCategory(seeded.user(), seeded.category(), seeded.replacementCategory())))
+        );
+    }
+
+    @BeforeEach
+    void seedTransactions() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.update("""
+                INSERT INTO users (full_name, password, email, currency_code, is_activated, created_at, updated_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10)
+                SELECT CONCAT('Plan User ', n), 'encoded-password', CONCAT('plan-', n, '@example.com'), 'USD', TRUE, NOW(), NOW()
+                FROM seq
+                """);
+        jdbcTemplate.update("INSERT INTO accounts (user_id, balance) SELECT id, 0.00 FROM users");
+        jdbcTemplate.update("INSERT INTO accounts (user_id, balance) SELECT id, 0.00 FROM users");
+        jdbcTemplate.update("""
+                INSERT INTO categories (name, type, status, user_id)
+                SELECT 'Salary', 'INCOME', 'ACTIVE', id FROM users
+                UNION ALL SELECT 'Groceries', 'EXPENSE', 'ACTIVE', id FROM users
+                UNION ALL SELECT 'Rent', 'EXPENSE', 'ACTIVE', id FROM users
+                UNION ALL SELECT 'Bonus', 'INCOME', 'ACTIVE', id FROM users
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO transactions (id, user_id, account_id, category_id, amount, type, date, description, created_at, updated_at, deleted_at)
+                WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 300)
+                SELECT u.id * 1000 + seq.n,
+                       u.id,
+                       CASE WHEN seq.n % 2 = 0
+                            THEN (SELECT MIN(a.id) FROM accounts a WHERE a.user_id = u.id)
+                            ELSE (SELECT MAX(a.id) FROM accounts a WHERE a.user_id = u.id) END,
+                       (SELECT c.id FROM categories c
+                        WHERE c.user_id = u.id AND c.name = ELT(seq.n % 4 + 1, 'Salary', 'Groceries', 'Rent', 'Bonus')),
+                       10.00 + seq.n,
+                       ELT(seq.n % 4 + 1, 'INCOME', 'EXPENSE', 'EXPENSE', 'INCOME'),
+                       DATE('2025-01-01') + INTERVAL (seq.n % 400) DAY,
+                       CONCAT('Seeded transaction ', seq.n),
+                       TIMESTAMP('2025-01-01 08:00:00') + INTERVAL seq.n MINUTE,
+                       TIMESTAMP('2025-01-01 08:00:00') + INTERVAL seq.n MINUTE,
+                       IF(seq.n % 25 = 0, NOW(), NULL)
+                FROM seq
+                CROSS JOIN users u
+                """);
+        jdbcTemplate.execute("ANALYZE TABLE users, accounts, categories, transactions");
+
+        Long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        ids = new SeededIds(
+                userId,
+                jdbcTemplate.queryForObject("SELECT MIN(id) FROM accounts WHERE user_id = ?", Long.class, userId),
+                jdbcTemplate.queryForObject("SELECT id FROM categories WHERE user_id = ? AND name = 'Groceries'", Long.class, userId),
+                jdbcTemplate.queryForObject("SELECT id FROM categories WHERE user_id = ? AND name = 'Rent'", Long.class, userId),
+                jdbcTemplate.queryForObject("SELECT MIN(id) FROM transactions WHERE user_id = ? AND deleted_at IS NULL", Long.class, userId)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void shouldUseIndexWithoutFullScanOrFilesort(String queryName) {
+        QueryPlanCase queryPlanCase = queries().get(queryName);
+        CapturedStatement statement = captureTransactionsStatement(queryPlanCase.repositoryCall());
+        Matcher table = TRANSACTIONS_TABLE.matcher(statement.sql());
+        assertThat(table.find()).isTrue();
+        String transactionsTable = table.group(1) != null ? table.group(1) : "transactions";
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameterArray());
+
+        assertThat(plan).isNotEmpty();
+        assertThat(plan)
+                .filteredOn(step -> transactionsTable.equals(step.get("table")))
+                .as("%s plan for %s", queryName, statement.sql())
+                .singleElement()
+                .satisfies(step -> assertThat(step.get("type")).as("%s access type", queryName).isNotEqualTo("ALL"));
+        if (queryPlanCase.orderedByIndex()) {
+            assertThat(plan).allSatisfy(step -> assertThat(String.valueOf(step.get("Extra")))
+                    .as("%s extra on table %s", queryName, step.get("table"))
+                    .doesNotContain("Using filesort"));
+        }
+    }
+
+    private CapturedStatement captureTransactionsStatement(Consumer<SeededEntities> repositoryCall) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            SeededEntities seeded = new SeededEntities(
+                    userRepository.findById(ids.userId()).orElseThrow(),
+                    categoryRepository.findById(ids.categoryId()).orElseThrow(),
+                    categoryRepository.findById(ids.replacementCategoryId()).orElseThrow()
+            );
+            statementCapture.clear();
+            repositoryCall.accept(seeded);
+            status.setRollbackOnly();
+        });
+
+        List<CapturedStatement> statements = statementCapture.statements(sql -> TRANSACTIONS_TABLE.matcher(sql).find());
+        assertThat(statements).hasSize(1);
+        return statements.getFirst();
+    }
+
+    private record SeededIds(
+            Long userId,
+            Long accountId,
+            Long categoryId,
+            Long replacementCategoryId,
+            Long transactionId
+    ) {
+    }
+
+    private record SeededEntities(User user, Category category, Category replacementCategory) {
+    }
+
+    private record QueryPlanCase(boolean orderedByIndex, Consumer<SeededEntities> repositoryCall) {
+    }
+}
@@ -3,6 +3,8 @@ package org.tc.mtracker.integration.repository;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.tc.mtracker.account.Account;
 import org.tc.mtracker.account.AccountRepository;
 import org.tc.mtracker.category.Category;
@@ -11,6 +13,9 @@ import org.tc.mtracker.category.enums.CategoryStatus;
 import org.tc.mtracker.common.enums.TransactionType;
 import org.tc.mtracker.currency.CurrencyCode;
 import org.tc.mtracker.support.base.BaseRepositoryIntegrationTest;
+import org.tc.mtracker.support.jdbc.StatementCapture;
+import org.tc.mtracker.support.jdbc.StatementCapture.CapturedStatement;
+import org.tc.mtracker.support.jdbc.StatementCaptureConfiguration;
 import org.tc.mtracker.transaction.Transaction;
 import org.tc.mtracker.transaction.TransactionRepository;
 import org.tc.mtracker.user.User;
@@ -20,10 +25,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Tag("integration")
+@Import(StatementCaptureConfiguration.class)
 class TransactionRepositoryTest extends BaseRepositoryIntegrationTest {
 
     @Autowired
@@ -38,6 +45,9 @@ class TransactionRepositoryTest extends BaseRepositoryIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private StatementCapture statementCapture;
+
     @Test
     void shouldFilterTransactionsAndKeepNewestFirst() {
         User currentUser = persistUser("user@example.com");
@@ -61,7 +71,11 @@ class TransactionRepositoryTest extends BaseRepositoryIntegrationTest {
                 null,
                 null,
                 null,
-                null
+                null,
+                null,
+                null,
+                null,
+                PageRequest.of(0, 50)
         );
 
         List<Transaction> filteredTransactions = transactionRepository.findAllByUserAndFilters(
@@ -70,7 +84,11 @@ class TransactionRepositoryTest extends BaseRepositoryIntegrationTest {
                 expenseCategory.getId(),
                 TransactionType.EXPENSE,
                 LocalDate.of(2026, 4, 1),
-                LocalDate.of(2026, 4, 30)
+                LocalDate.of(2026, 4, 30),
+                null,
+                null,
+                null,
+                PageRequest.of(0, 50)
         );
 
         assertThat(allTransactions).extracting(Transaction::getAmount)
@@ -96,6 +114,32 @@ class TransactionRepositoryTest extends BaseRepositoryIntegrationTest {
         assertThat(transactionRepository.findActiveByIdAndUser(foreign.getId(), currentUser)).isEmpty();
     }
 
+    @Test
+    void shouldInsertTransactionsInJdbcBatches() {
+        User currentUser = persistUser("user@example.com");
+        Category expenseCategory = persistCategory(currentUser, "Groceries", TransactionType.EXPENSE);
+        List<Transaction> transactions = IntStream.rangeClosed(1, 120)
+                .mapToObj(day -> Transaction.builder()
+                        .user(currentUser)
+                        .account(currentUser.getDefaultAccount())
+                        .category(expenseCategory)
+                        .amount(new BigDecimal("1.00"))
+                        .type(TransactionType.EXPENSE)
+                        .date(LocalDate.of(2026, 1, 1).plusDays(day))
+                        .description("Batched transaction")
+                        .build())
+                .toList();
+        statementCapture.clear();
+
+        transactionRepository.saveAll(transactions);
+        transactionRepository.flush();
+
+        List<CapturedStatement> inserts = statementCapture.statements(sql -> sql.startsWith("insert into transactions"));
+        assertThat(inserts).hasSize(3);
+        assertThat(inserts).extracting(CapturedStatement::batchSize).containsExactly(50, 50, 20);
+        assertThat(transactions).extracting(Transaction::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
     private User persistUser(String email) {
         User user = userRepository.saveAndFlush(User.builder()
                 .email(email)
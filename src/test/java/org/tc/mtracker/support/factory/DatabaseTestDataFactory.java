@@ -132,8 +132,8 @@ public class DatabaseTestDataFactory {
                 .build());
 
         BigDecimal delta = type == TransactionType.INCOME ? amount : amount.negate();
+        accountRepository.addToBalance(account.getId(), delta);
         account.setBalance(account.getBalance().add(delta));
-        accountRepository.saveAndFlush(account);
 
         return transaction;
     }
@@ -0,0 +1,97 @@
+package org.tc.mtracker.support.jdbc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+public class StatementCapture {
+
+    private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public List<CapturedStatement> statements() {
+        return List.copyOf(statements);
+    }
+
+    public List<CapturedStatement> statements(Predicate<String> sqlFilter) {
+        return statements.stream().filter(statement -> sqlFilter.test(statement.sql())).toList();
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement preparedStatement && method.getName().equals("prepareStatement")) {
+                return wrap(preparedStatement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrap(PreparedStatement preparedStatement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        List<List<Object>> batch = new ArrayList<>();
+        return proxy(PreparedStatement.class, preparedStatement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch") && (args == null || args.length == 0)) {
+                batch.add(new ArrayList<>(parameters.values()));
+            } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                statements.add(new CapturedStatement(sql, batch.isEmpty() ? List.of() : batch.getFirst(), batch.size()));
+                batch.clear();
+            } else if ((name.equals("execute") || name.equals("executeQuery") || name.equals("executeUpdate")
+                    || name.equals("executeLargeUpdate")) && (args == null || args.length == 0)) {
+                statements.add(new CapturedStatement(sql, new ArrayList<>(parameters.values()), 0));
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, TargetInvocationHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.invoke(target, method, args);
+        return (T) Proxy.newProxyInstance(StatementCapture.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetInvocationHandler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    public record CapturedStatement(String sql, List<Object> parameters, int batchSize) {
+
+        public Object[] parameterArray() {
+            return parameters.toArray();
+        }
+    }
+}
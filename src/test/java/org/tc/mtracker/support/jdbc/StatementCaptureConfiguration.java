@@ -0,0 +1,27 @@
+package org.tc.mtracker.support.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class StatementCaptureConfiguration {
+
+    @Bean
+    StatementCapture statementCapture() {
+        return new StatementCapture();
+    }
+
+    @Bean
+    static BeanPostProcessor statementCaptureDataSourcePostProcessor(ObjectProvider<StatementCapture> statementCapture) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? statementCapture.getObject().wrap(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -8,6 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
+import org.tc.mtracker.analytics.summary.DailyAccountSummaryService;
 import org.tc.mtracker.category.Category;
 import org.tc.mtracker.category.CategoryMapper;
 import org.tc.mtracker.category.CategoryRepository;
@@ -21,6 +22,7 @@ import org.tc.mtracker.support.factory.EntityTestFactory;
 import org.tc.mtracker.transaction.TransactionRepository;
 import org.tc.mtracker.transaction.recurring.RecurringTransactionRepository;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserService;
 import org.tc.mtracker.utils.exceptions.CategoryAlreadyExistsException;
 import org.tc.mtracker.utils.exceptions.CategoryReplacementRequiredException;
@@ -55,6 +57,12 @@ class CategoryServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private DailyAccountSummaryService dailyAccountSummaryService;
+
+    @Mock
+    private UserDataVersionService userDataVersionService;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -0,0 +1,103 @@
+package org.tc.mtracker.unit.common;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.tc.mtracker.common.receipt.ReceiptThumbnails;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+class ReceiptThumbnailsTest {
+
+    @Test
+    void shouldScaleImageDownToWebpThumbnail() throws IOException {
+        byte[] source = png(2000, 1000);
+
+        byte[] thumbnail = ReceiptThumbnails.render(source, 320).orElseThrow();
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertWebp(thumbnail);
+        assertThat(image.getWidth()).isEqualTo(320);
+        assertThat(image.getHeight()).isEqualTo(160);
+        assertThat(thumbnail.length).isLessThan(source.length);
+    }
+
+    @Test
+    void shouldKeepSmallImageSize() throws IOException {
+        byte[] thumbnail = ReceiptThumbnails.render(png(100, 50), 320).orElseThrow();
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertThat(image.getWidth()).isEqualTo(100);
+        assertThat(image.getHeight()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldRenderFirstPdfPageToWebpThumbnail() throws IOException {
+        byte[] thumbnail = ReceiptThumbnails.render(pdf(), 320).orElseThrow();
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertWebp(thumbnail);
+        assertThat(Math.max(image.getWidth(), image.getHeight())).isEqualTo(320);
+        assertThat(image.getHeight()).isGreaterThan(image.getWidth());
+        assertThat(image.getRGB(image.getWidth() / 2, image.getHeight() / 2) & 0xFFFFFF).isZero();
+    }
+
+    @Test
+    void shouldAcceptWebpSource() throws IOException {
+        byte[] webp = ReceiptThumbnails.render(png(640, 480), 640).orElseThrow();
+
+        byte[] thumbnail = ReceiptThumbnails.render(webp, 320).orElseThrow();
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertThat(image.getWidth()).isEqualTo(320);
+        assertThat(image.getHeight()).isEqualTo(240);
+    }
+
+    @Test
+    void shouldSkipContentThatIsNotAnImage() throws IOException {
+        assertThat(ReceiptThumbnails.render("plain text receipt".getBytes(StandardCharsets.UTF_8), 320)).isEmpty();
+    }
+
+    private static void assertWebp(byte[] content) {
+        assertThat(new String(content, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("RIFF");
+        assertThat(new String(content, 8, 4, StandardCharsets.US_ASCII)).isEqualTo("WEBP");
+    }
+
+    private static byte[] pdf() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage firstPage = new PDPage(PDRectangle.A4);
+            document.addPage(firstPage);
+            try (PDPageContentStream content = new PDPageContentStream(document, firstPage)) {
+                content.addRect(0, 0, PDRectangle.A4.getWidth(), PDRectangle.A4.getHeight());
+                content.fill();
+            }
+            document.addPage(new PDPage(PDRectangle.LETTER));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+package org.tc.mtracker.unit.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.tc.mtracker.common.persistence.DataSourceTarget;
+import org.tc.mtracker.common.persistence.ReplicaLagMonitor;
+import org.tc.mtracker.common.persistence.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        routingDataSource = new ReplicaRoutingDataSource(
+                lagMonitor,
+                Duration.ofSeconds(10),
+                Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC),
+                meterRegistry
+        );
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceTarget.PRIMARY, primary,
+                DataSourceTarget.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        lenient().when(lagMonitor.isWithinTolerance()).thenReturn(true);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("reader@example.com", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRouteReadOnlyTransactionToReplica() throws SQLException {
+        beginTransaction(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(meterRegistry.counter("datasource.routing", "target", "replica", "reason", "read_only").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRouteWritesAndNonTransactionalWorkToPrimary() throws SQLException {
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        beginTransaction(false);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldKeepReadsOnPrimaryWhenReplicaLagExceedsTolerance() throws SQLException {
+        when(lagMonitor.isWithinTolerance()).thenReturn(false);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimaryAfterCommit() throws SQLException {
+        beginTransaction(false);
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+
+        beginTransaction(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        TransactionSynchronizationManager.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("other@example.com", null, List.of()));
+        beginTransaction(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,98 @@
+package org.tc.mtracker.unit.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.tc.mtracker.common.storage.StorageOperation;
+import org.tc.mtracker.common.storage.StorageOutboxEntry;
+import org.tc.mtracker.common.storage.StorageOutboxRepository;
+import org.tc.mtracker.common.storage.StorageOutboxService;
+import org.tc.mtracker.utils.S3Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class StorageOutboxServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @Mock
+    private StorageOutboxRepository storageOutboxRepository;
+
+    @Mock
+    private S3Service s3Service;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StorageOutboxService storageOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        storageOutboxService = new StorageOutboxService(storageOutboxRepository, s3Service, CLOCK, meterRegistry);
+        ReflectionTestUtils.setField(storageOutboxService, "batchSize", 100);
+        ReflectionTestUtils.setField(storageOutboxService, "maxAttempts", 10);
+        ReflectionTestUtils.setField(storageOutboxService, "retryDelay", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(storageOutboxService, "uploadGracePeriod", Duration.ofMinutes(15));
+    }
+
+    @Test
+    void shouldDeleteObjectsInOneCallAndRetryOnlyFailedKeys() {
+        StorageOutboxEntry deleted = entry(1L, "receipts/a", 0);
+        StorageOutboxEntry rejected = entry(2L, "receipts/b", 2);
+        when(storageOutboxRepository.lockDueEntries(NOW, 10, 100)).thenReturn(List.of(deleted, rejected));
+        when(s3Service.deleteFiles(List.of("receipts/a", "receipts/b"))).thenReturn(Set.of("receipts/b"));
+
+        int processed = storageOutboxService.processDueBatch();
+
+        assertThat(processed).isEqualTo(2);
+        verify(storageOutboxRepository).deleteAllInBatch(List.of(deleted));
+        assertThat(rejected.getAttempts()).isEqualTo(3);
+        assertThat(rejected.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(2));
+        assertThat(rejected.getLastError()).isNotBlank();
+        assertThat(meterRegistry.counter("storage.outbox.operations", "result", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryWholeBatchWhenStorageIsUnavailable() {
+        StorageOutboxEntry first = entry(1L, "receipts/a", 0);
+        StorageOutboxEntry second = entry(2L, "receipts/b", 9);
+        when(storageOutboxRepository.lockDueEntries(NOW, 10, 100)).thenReturn(List.of(first, second));
+        when(s3Service.deleteFiles(anyList())).thenThrow(new IllegalStateException("connection refused"));
+
+        storageOutboxService.processDueBatch();
+
+        verify(storageOutboxRepository).deleteAllInBatch(List.of());
+        assertThat(first.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(first.getLastError()).isEqualTo("connection refused");
+        assertThat(second.getAttempts()).isEqualTo(10);
+        assertThat(second.getNextAttemptAt()).isEqualTo(NOW.plusHours(1));
+    }
+
+    private static StorageOutboxEntry entry(Long id, String objectKey, int attempts) {
+        return StorageOutboxEntry.builder()
+                .id(id)
+                .operation(StorageOperation.DELETE_OBJECT)
+                .objectKey(objectKey)
+                .attempts(attempts)
+                .nextAttemptAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package org.tc.mtracker.unit.transaction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.tc.mtracker.transaction.imports.StatementLine;
+import org.tc.mtracker.transaction.imports.StatementParseException;
+import org.tc.mtracker.transaction.imports.StatementReader;
+import org.tc.mtracker.transaction.imports.enums.StatementFormat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+class StatementReaderTest {
+
+    @Test
+    void shouldReadCsvWithQuotedDescriptionsAndSignedAmounts() throws IOException {
+        String csv = """
+                date,description,amount
+                2026-04-01,"Coffee, beans",-12.50
+                2026-04-02,Salary,2500.00
+                """;
+
+        assertThat(readAll(StatementFormat.CSV, csv)).containsExactly(
+                new StatementLine(LocalDate.of(2026, 4, 1), new BigDecimal("-12.50"), "Coffee, beans"),
+                new StatementLine(LocalDate.of(2026, 4, 2), new BigDecimal("2500.00"), "Salary")
+        );
+    }
+
+    @Test
+    void shouldReadCsvExportWithTypeColumn() throws IOException {
+        String csv = """
+                id,date,type,amount,account_id,category_id,category,description,created_at
+                7,2026-04-02,EXPENSE,12.50,1,4,Groceries,"Milk, ""fresh\""",2026-04-02T10:00
+                """;
+
+        assertThat(readAll(StatementFormat.CSV, csv)).containsExactly(
+                new StatementLine(LocalDate.of(2026, 4, 2), new BigDecimal("-12.50"), "Milk, \"fresh\"")
+        );
+    }
+
+    @Test
+    void shouldReadCsvQuotedFieldsSpanningLines() throws IOException {
+        String csv = "date,description,amount\r\n"
+                + "2026-04-01,\"Groceries\nmilk, \"\"bread\"\"\",-12.50\r\n"
+                + "2026-04-02,\"Refund\r\nline two\",3.00\r\n"
+                + "2026-13-03,Broken,1.00\n";
+
+        try (StatementReader reader = StatementReader.open(StatementFormat.CSV, new StringReader(csv))) {
+            assertThat(reader.next()).isEqualTo(
+                    new StatementLine(LocalDate.of(2026, 4, 1), new BigDecimal("-12.50"), "Groceries\nmilk, \"bread\""));
+            assertThat(reader.next()).isEqualTo(
+                    new StatementLine(LocalDate.of(2026, 4, 2), new BigDecimal("3.00"), "Refund\r\nline two"));
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(StatementParseException.class)
+                    .hasMessageStartingWith("Line 6:");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void shouldReportInvalidCsvLineAndContinue() throws IOException {
+        String csv = """
+                date,amount
+                2026-13-01,10.00
+                2026-04-03,5.00
+                """;
+
+        try (StatementReader reader = StatementReader.open(StatementFormat.CSV, new StringReader(csv))) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(StatementParseException.class)
+                    .hasMessageStartingWith("Line 2:");
+            assertThat(reader.next()).isEqualTo(new StatementLine(LocalDate.of(2026, 4, 3), new BigDecimal("5.00"), null));
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void shouldReadOfxSgmlTransactions() throws IOException {
+        String ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20260401120000[-5:EST]
+                <TRNAMT>-42.10
+                <NAME>Fuel &amp; Go
+                </STMTTRN>
+                <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20260402<TRNAMT>100.00<MEMO>Refund</STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """;
+
+        assertThat(readAll(StatementFormat.OFX, ofx)).containsExactly(
+                new StatementLine(LocalDate.of(2026, 4, 1), new BigDecimal("-42.10"), "Fuel & Go"),
+                new StatementLine(LocalDate.of(2026, 4, 2), new BigDecimal("100.00"), "Refund")
+        );
+    }
+
+    @Test
+    void shouldReadQifRecords() throws IOException {
+        String qif = """
+                !Type:Bank
+                D04/01/2026
+                T-1,250.00
+                PLandlord
+                ^
+                D4/2'26
+                T80.00
+                MCashback
+                ^
+                """;
+
+        assertThat(readAll(StatementFormat.QIF, qif)).containsExactly(
+                new StatementLine(LocalDate.of(2026, 4, 1), new BigDecimal("-1250.00"), "Landlord"),
+                new StatementLine(LocalDate.of(2026, 4, 2), new BigDecimal("80.00"), "Cashback")
+        );
+    }
+
+    private static List<StatementLine> readAll(StatementFormat format, String content) throws IOException {
+        List<StatementLine> lines = new ArrayList<>();
+        try (StatementReader reader = StatementReader.open(format, new StringReader(content))) {
+            StatementLine line;
+            while ((line = reader.next()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
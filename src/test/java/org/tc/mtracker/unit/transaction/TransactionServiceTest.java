@@ -9,10 +9,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
 import org.tc.mtracker.account.Account;
+import org.tc.mtracker.account.AccountBalanceService;
 import org.tc.mtracker.category.Category;
 import org.tc.mtracker.category.enums.CategoryStatus;
 import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.common.idempotency.IdempotencyService;
+import org.tc.mtracker.common.storage.StorageOutboxService;
 import org.tc.mtracker.support.factory.EntityTestFactory;
+import org.tc.mtracker.transaction.ReceiptImageRepository;
+import org.tc.mtracker.transaction.ReceiptObjectService;
+import org.tc.mtracker.transaction.ReceiptThumbnailWorker;
+import org.tc.mtracker.transaction.ReceiptUploadService;
 import org.tc.mtracker.transaction.Transaction;
 import org.tc.mtracker.transaction.TransactionRepository;
 import org.tc.mtracker.transaction.TransactionService;
@@ -21,6 +28,7 @@ import org.tc.mtracker.transaction.dto.TransactionCreateRequestDTO;
 import org.tc.mtracker.transaction.dto.TransactionMapper;
 import org.tc.mtracker.transaction.dto.TransactionResponseDTO;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserService;
 import org.tc.mtracker.utils.S3Service;
 import org.tc.mtracker.utils.exceptions.CategoryIsNotActiveException;
@@ -29,6 +37,7 @@ import org.tc.mtracker.utils.exceptions.TransactionNotFoundException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,6 +55,9 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private ReceiptImageRepository receiptImageRepository;
+
     @Mock
     private TransactionMapper transactionMapper;
 
@@ -61,6 +73,27 @@ class TransactionServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private AccountBalanceService accountBalanceService;
+
+    @Mock
+    private UserDataVersionService userDataVersionService;
+
+    @Mock
+    private StorageOutboxService storageOutboxService;
+
+    @Mock
+    private ReceiptUploadService receiptUploadService;
+
+    @Mock
+    private ReceiptThumbnailWorker receiptThumbnailWorker;
+
+    @Mock
+    private ReceiptObjectService receiptObjectService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -82,6 +115,10 @@ class TransactionServiceTest {
         );
     }
 
+    private static String ledgerState(Transaction transaction) {
+        return transaction.getAccount().getId() + ":" + transaction.getDate() + ":" + transaction.getAmount();
+    }
+
     @Test
     void shouldUseDefaultAccountAndIncreaseBalanceForOneTimeIncomeTransaction() {
         User user = EntityTestFactory.user(1L, "user@example.com", true);
@@ -120,7 +157,8 @@ class TransactionServiceTest {
         TransactionResponseDTO result = transactionService.createTransaction(authentication, dto, List.of());
 
         assertThat(result).isEqualTo(response);
-        assertThat(defaultAccount.getBalance()).isEqualByComparingTo("25.50");
+        verify(accountBalanceService).recordTransaction(transaction);
+        verify(userDataVersionService).bump(user);
         assertThat(transaction.getUser()).isEqualTo(user);
         assertThat(transaction.getAccount()).isEqualTo(defaultAccount);
         assertThat(transaction.getCategory()).isEqualTo(category);
@@ -170,7 +208,8 @@ class TransactionServiceTest {
 
         assertThat(result).isEqualTo(response);
         assertThat(transaction.getReceipts()).hasSize(1);
-        verify(s3Service).saveFile(anyString(), eq(receipt));
+        assertThat(transaction.getReceipts().getFirst().getContentHash()).hasSize(64);
+        verify(receiptObjectService).store(eq(transaction.getReceipts()), argThat(files -> files.size() == 1 && files.containsValue(receipt)));
         verify(s3Service).generatePresignedUrl(anyString());
     }
 
@@ -275,12 +314,16 @@ class TransactionServiceTest {
         }).when(transactionMapper).updateEntity(eq(updateDto), eq(existingTransaction));
         when(transactionRepository.save(existingTransaction)).thenReturn(existingTransaction);
         when(transactionMapper.toDto(existingTransaction, List.of())).thenReturn(response);
+        List<String> ledgerCalls = new ArrayList<>();
+        doAnswer(invocation -> ledgerCalls.add("revert " + ledgerState(invocation.getArgument(0))))
+                .when(accountBalanceService).revertTransaction(existingTransaction);
+        doAnswer(invocation -> ledgerCalls.add("record " + ledgerState(invocation.getArgument(0))))
+                .when(accountBalanceService).recordTransaction(existingTransaction);
 
         TransactionResponseDTO result = transactionService.updateTransaction(9L, authentication, updateDto);
 
         assertThat(result).isEqualTo(response);
-        assertThat(sourceAccount.getBalance()).isEqualByComparingTo("100.00");
-        assertThat(targetAccount.getBalance()).isEqualByComparingTo("-30.00");
+        assertThat(ledgerCalls).containsExactly("revert 1:2026-04-01:30.00", "record 2:2026-04-02:50.00");
         assertThat(existingTransaction.getAccount()).isEqualTo(targetAccount);
         verify(transactionValidationService).validateOneTimeTransactionDate(updateDto.date(), user);
         verify(transactionValidationService).validateTransactionType(updateDto.type(), expenseCategory, user);
@@ -308,8 +351,10 @@ class TransactionServiceTest {
 
         transactionService.deleteTransaction(9L, authentication);
 
-        assertThat(account.getBalance()).isEqualByComparingTo("0.00");
-        verify(s3Service).deleteFile("receipts/" + receiptId);
+        verify(accountBalanceService).revertTransaction(transaction);
+        verify(receiptObjectService).release(transaction.getReceipts());
+        verify(storageOutboxService).enqueueDeletes(List.of("receipts/" + receiptId, "receipts/" + receiptId + "-thumbnail"));
+        verify(s3Service, never()).deleteFile(anyString());
         verify(transactionRepository).delete(transaction);
     }
 
@@ -12,6 +12,7 @@ import org.tc.mtracker.account.Account;
 import org.tc.mtracker.category.Category;
 import org.tc.mtracker.category.enums.CategoryStatus;
 import org.tc.mtracker.common.enums.TransactionType;
+import org.tc.mtracker.common.idempotency.IdempotencyService;
 import org.tc.mtracker.support.factory.EntityTestFactory;
 import org.tc.mtracker.transaction.Transaction;
 import org.tc.mtracker.transaction.TransactionService;
@@ -24,10 +25,12 @@ import org.tc.mtracker.transaction.recurring.dto.RecurringTransactionMapper;
 import org.tc.mtracker.transaction.recurring.dto.RecurringTransactionResponseDTO;
 import org.tc.mtracker.transaction.recurring.enums.IntervalUnit;
 import org.tc.mtracker.user.User;
+import org.tc.mtracker.user.UserDataVersionService;
 import org.tc.mtracker.user.UserService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -51,9 +54,15 @@ class RecurringTransactionServiceTest {
     @Mock
     private TransactionService transactionService;
 
+    @Mock
+    private UserDataVersionService userDataVersionService;
+
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private IdempotencyService idempotencyService;
+
     @InjectMocks
     private RecurringTransactionService recurringTransactionService;
 
@@ -184,4 +193,59 @@ class RecurringTransactionServiceTest {
         assertThat(recurringTransaction.getNextExecutionDate()).isEqualTo(LocalDate.of(2026, 5, 1));
         verify(transactionService, never()).createAutomatedTransaction(any(Transaction.class));
     }
+
+    @Test
+    void shouldCreateTransactionsForAllMissedExecutionDates() {
+        User user = EntityTestFactory.user(1L, "user@example.com", true);
+        Account account = EntityTestFactory.account(1L, user, BigDecimal.ZERO);
+        Category category = EntityTestFactory.category(2L, user, "Salary", TransactionType.INCOME, CategoryStatus.ACTIVE);
+        RecurringTransaction recurringTransaction = dueRecurringTransaction(user, account, category);
+
+        when(recurringTransactionRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(recurringTransaction));
+
+        int created = recurringTransactionService.executeDueTransaction(10L, LocalDate.of(2026, 4, 15));
+
+        assertThat(created).isEqualTo(3);
+        ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionService, times(3)).createAutomatedTransaction(transactionCaptor.capture());
+        assertThat(transactionCaptor.getAllValues())
+                .extracting(Transaction::getDate)
+                .containsExactly(
+                        LocalDate.of(2026, 2, 1),
+                        LocalDate.of(2026, 3, 1),
+                        LocalDate.of(2026, 4, 1)
+                );
+        assertThat(recurringTransaction.getNextExecutionDate()).isEqualTo(LocalDate.of(2026, 5, 1));
+    }
+
+    @Test
+    void shouldSkipRecurringTransactionWhoseCategoryWasArchivedBeforeExecution() {
+        User user = EntityTestFactory.user(1L, "user@example.com", true);
+        Account account = EntityTestFactory.account(1L, user, BigDecimal.ZERO);
+        Category category = EntityTestFactory.category(2L, user, "Salary", TransactionType.INCOME, CategoryStatus.ARCHIVED);
+        RecurringTransaction recurringTransaction = dueRecurringTransaction(user, account, category);
+
+        when(recurringTransactionRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(recurringTransaction));
+
+        int created = recurringTransactionService.executeDueTransaction(10L, LocalDate.of(2026, 4, 15));
+
+        assertThat(created).isZero();
+        assertThat(recurringTransaction.getNextExecutionDate()).isEqualTo(LocalDate.of(2026, 2, 1));
+        verifyNoInteractions(transactionService);
+    }
+
+    private static RecurringTransaction dueRecurringTransaction(User user, Account account, Category category) {
+        return RecurringTransaction.builder()
+                .id(10L)
+                .user(user)
+                .account(account)
+                .category(category)
+                .type(TransactionType.INCOME)
+                .amount(new BigDecimal("100.00"))
+                .description("Salary")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .nextExecutionDate(LocalDate.of(2026, 2, 1))
+                .intervalUnit(IntervalUnit.MONTHLY)
+                .build();
+    }
 }
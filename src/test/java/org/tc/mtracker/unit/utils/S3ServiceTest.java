@@ -0,0 +1,232 @@
+package org.tc.mtracker.unit.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import org.tc.mtracker.utils.S3Service;
+import org.tc.mtracker.utils.config.properties.AwsProperties;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class S3ServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-01T10:00:00Z"));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger signatures = new AtomicInteger();
+
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        AwsProperties awsProperties = new AwsProperties(
+                "us-east-1", "key", "secret", null, new AwsProperties.S3("test-bucket", false));
+        s3Service = new S3Service(s3Client, s3AsyncClient, s3Presigner, awsProperties, clock, meterRegistry, 2);
+
+        lenient().when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            GetObjectPresignRequest request = invocation.getArgument(0);
+            PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+            String url = "https://test-bucket.local/" + request.getObjectRequest().key() + "?sig=" + signatures.incrementAndGet();
+            when(presigned.url()).thenReturn(toUrl(url));
+            when(presigned.expiration()).thenReturn(clock.instant().plus(request.signatureDuration()));
+            return presigned;
+        });
+    }
+
+    @Test
+    void shouldReuseCachedPresignedUrlForSameKey() {
+        String first = s3Service.generatePresignedUrl("receipts/a");
+        String second = s3Service.generatePresignedUrl("receipts/a");
+
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldResignPresignedUrlWithinSafetyMarginOfExpiry() {
+        String first = s3Service.generatePresignedUrl("receipts/a");
+
+        clock.advance(Duration.ofMinutes(49));
+        assertThat(s3Service.generatePresignedUrl("receipts/a")).isEqualTo(first);
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(s3Service.generatePresignedUrl("receipts/a")).isNotEqualTo(first);
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void shouldEvictCachedPresignedUrlWhenFileIsDeleted() {
+        String first = s3Service.generatePresignedUrl("receipts/a");
+
+        s3Service.deleteFile("receipts/a");
+
+        assertThat(s3Service.generatePresignedUrl("receipts/a")).isNotEqualTo(first);
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void shouldUploadFilesConcurrentlyWithinConcurrencyLimit() {
+        List<CompletableFuture<PutObjectResponse>> pending = new CopyOnWriteArrayList<>();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            CompletableFuture<PutObjectResponse> upload = new CompletableFuture<>();
+            pending.add(upload);
+            return upload;
+        });
+
+        CompletableFuture<Void> saving = CompletableFuture.runAsync(() -> s3Service.saveFiles(files("receipts/a", "receipts/b", "receipts/c")));
+
+        await().until(() -> pending.size() == 2);
+        assertThat(saving).isNotDone();
+
+        pending.get(0).complete(PutObjectResponse.builder().build());
+        await().until(() -> pending.size() == 3);
+        pending.get(1).complete(PutObjectResponse.builder().build());
+        pending.get(2).complete(PutObjectResponse.builder().build());
+
+        saving.join();
+        verify(s3AsyncClient, times(3)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void shouldRemoveUploadedFilesWhenAnyUploadFails() {
+        S3Exception failure = (S3Exception) S3Exception.builder().message("storage unavailable").statusCode(503).build();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            return request.key().equals("receipts/b")
+                    ? CompletableFuture.failedFuture(failure)
+                    : CompletableFuture.completedFuture(PutObjectResponse.builder().build());
+        });
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+
+        assertThatThrownBy(() -> s3Service.saveFiles(files("receipts/a", "receipts/b")))
+                .isSameAs(failure);
+
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) ->
+                request.delete().objects().stream().map(ObjectIdentifier::key).toList().equals(List.of("receipts/a"))));
+    }
+
+    @Test
+    void shouldKeepContentAddressedUploadsWhenAnyUploadFails() {
+        S3Exception failure = (S3Exception) S3Exception.builder().message("storage unavailable").statusCode(503).build();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            return request.key().equals("receipts/sha256/b")
+                    ? CompletableFuture.failedFuture(failure)
+                    : CompletableFuture.completedFuture(PutObjectResponse.builder().build());
+        });
+
+        assertThatThrownBy(() -> s3Service.saveContentAddressedFiles(files("receipts/sha256/a", "receipts/sha256/b")))
+                .isSameAs(failure);
+
+        verify(s3AsyncClient, times(2)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    private static Map<String, MultipartFile> files(String... objectKeys) {
+        Map<String, MultipartFile> files = new LinkedHashMap<>();
+        for (String objectKey : objectKeys) {
+            files.put(objectKey, new MockMultipartFile("receipts", "receipt.png", "image/png", objectKey.getBytes()));
+        }
+        return files;
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "s3.presigned-urls")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static URL toUrl(String url) throws MalformedURLException {
+        return URI.create(url).toURL();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,5 +1,15 @@
 SET FOREIGN_KEY_CHECKS = 0;
+TRUNCATE TABLE idempotency_keys;
+TRUNCATE TABLE storage_outbox;
+TRUNCATE TABLE receipt_uploads;
+TRUNCATE TABLE import_jobs;
+TRUNCATE TABLE import_rules;
 TRUNCATE TABLE receipt_images;
+TRUNCATE TABLE receipt_objects;
+TRUNCATE TABLE daily_account_summaries;
+TRUNCATE TABLE account_balance_checkpoints;
+TRUNCATE TABLE account_balance_deltas;
+TRUNCATE TABLE user_data_changes;
 TRUNCATE TABLE transactions;
 TRUNCATE TABLE recurring_transactions;
 TRUNCATE TABLE refresh_tokens;